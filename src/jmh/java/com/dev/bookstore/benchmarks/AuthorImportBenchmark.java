@@ -0,0 +1,68 @@
+package com.dev.bookstore.benchmarks;
+
+import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.repositories.AuthorRepository;
+import com.dev.bookstore.services.AuthorService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(AuthorImportBenchmark.ROWS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthorImportBenchmark {
+
+    static final int ROWS = 1_000;
+
+    private ConfigurableApplicationContext context;
+
+    private AuthorService authorService;
+
+    private AuthorRepository authorRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkData.start("import", WebApplicationType.NONE);
+        authorService = context.getBean(AuthorService.class);
+        authorRepository = context.getBean(AuthorRepository.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void clear() {
+        authorRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void createOneByOne() {
+        authors().forEach(authorService::create);
+    }
+
+    @Benchmark
+    public List<AuthorEntity> createAll() {
+        return authorService.createAll(authors());
+    }
+
+    private static List<AuthorEntity> authors() {
+        return IntStream.range(0, ROWS)
+                .mapToObj(i -> AuthorEntity.builder()
+                        .name("Imported Author " + i)
+                        .age(40)
+                        .description("Imported biography " + i)
+                        .image("imported-author-" + i + ".jpg")
+                        .build())
+                .toList();
+    }
+}
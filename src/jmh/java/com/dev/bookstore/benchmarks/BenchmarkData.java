@@ -0,0 +1,84 @@
+package com.dev.bookstore.benchmarks;
+
+import com.dev.bookstore.BookstoreApplication;
+import com.dev.bookstore.services.BookSearchService;
+import com.dev.bookstore.services.BookSummaryReadModel;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class BenchmarkData {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private BenchmarkData() {
+    }
+
+    static ConfigurableApplicationContext start(String database, WebApplicationType webApplicationType, String... properties) {
+        List<String> defaults = new ArrayList<>(List.of(
+                "spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                "spring.jpa.show-sql=false",
+                "server.port=0",
+                "logging.level.root=WARN"
+        ));
+        defaults.addAll(List.of(properties));
+
+        return new SpringApplicationBuilder(BookstoreApplication.class)
+                .web(webApplicationType)
+                .properties(defaults.toArray(String[]::new))
+                .run();
+    }
+
+    static void seed(ConfigurableApplicationContext context, int authors, int books) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        List<Object[]> authorRows = new ArrayList<>(BATCH_SIZE);
+        for (long id = 1; id <= authors; id++) {
+            authorRows.add(new Object[]{
+                    id,
+                    "Author " + id,
+                    30 + (int) (id % 50),
+                    "Biography of author " + id + ". " + "Lorem ipsum dolor sit amet. ".repeat(20),
+                    "author-" + id + ".jpg"
+            });
+
+            if (authorRows.size() == BATCH_SIZE || id == authors) {
+                jdbcTemplate.batchUpdate(
+                        "insert into authors (id, name, age, description, image) values (?, ?, ?, ?, ?)",
+                        authorRows
+                );
+                authorRows.clear();
+            }
+        }
+
+        List<Object[]> bookRows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 1; i <= books; i++) {
+            bookRows.add(new Object[]{
+                    isbn(i),
+                    "Book Title " + i,
+                    "Description of book " + i + ". " + "Lorem ipsum dolor sit amet. ".repeat(10),
+                    "book-" + i + ".jpg",
+                    (long) (i % authors) + 1
+            });
+
+            if (bookRows.size() == BATCH_SIZE || i == books) {
+                jdbcTemplate.batchUpdate(
+                        "insert into books (isbn, title, description, image, author_id) values (?, ?, ?, ?, ?)",
+                        bookRows
+                );
+                bookRows.clear();
+            }
+        }
+
+        context.getBean(BookSummaryReadModel.class).rebuild();
+        context.getBean(BookSearchService.class).reindex();
+    }
+
+    static String isbn(int index) {
+        return String.format("978-%010d", index);
+    }
+}
@@ -0,0 +1,82 @@
+package com.dev.bookstore.benchmarks;
+
+import com.dev.bookstore.domain.projections.BookSummaryProjection;
+import com.dev.bookstore.services.BookService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookListingBenchmark {
+
+    @Param({"1000"})
+    private int authors;
+
+    @Param({"100000"})
+    private int books;
+
+    @Param({"50", "500"})
+    private int limit;
+
+    private ConfigurableApplicationContext context;
+
+    private BookService bookService;
+
+    private MockMvc mockMvc;
+
+    private String middleIsbn;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkData.start("listing", WebApplicationType.SERVLET);
+        BenchmarkData.seed(context, authors, books);
+
+        bookService = context.getBean(BookService.class);
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+        middleIsbn = BenchmarkData.isbn(books / 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookSummaryProjection> listFirstPage() {
+        return bookService.list(null, null, limit);
+    }
+
+    @Benchmark
+    public List<BookSummaryProjection> listMiddlePage() {
+        return bookService.list(null, middleIsbn, limit);
+    }
+
+    @Benchmark
+    public List<BookSummaryProjection> listByAuthor() {
+        return bookService.list(1L, null, limit);
+    }
+
+    @Benchmark
+    public byte[] readManyBooksEndToEnd() throws Exception {
+        return mockMvc.perform(
+                MockMvcRequestBuilders
+                        .get("/books")
+                        .param("after", middleIsbn)
+                        .param("limit", String.valueOf(limit))
+                        .accept(MediaType.APPLICATION_JSON)
+        ).andReturn().getResponse().getContentAsByteArray();
+    }
+}
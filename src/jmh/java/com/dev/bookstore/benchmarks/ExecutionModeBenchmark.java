@@ -0,0 +1,92 @@
+package com.dev.bookstore.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(1000)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExecutionModeBenchmark {
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"500"})
+    private long queryLatencyMillis;
+
+    @Param({"400"})
+    private int poolSize;
+
+    @Param({"10000"})
+    private int authors;
+
+    private ConfigurableApplicationContext context;
+
+    private HttpClient httpClient;
+
+    private String authorsUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean virtual = "virtual".equals(mode);
+
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("The virtual execution mode needs a JDK 21+ runtime");
+        }
+
+        context = BenchmarkData.start(
+                "execution-" + mode,
+                WebApplicationType.SERVLET,
+                "spring.main.sources=" + QueryLatency.class.getName(),
+                QueryLatency.PROPERTY + "=" + queryLatencyMillis,
+                "spring.threads.virtual.enabled=" + virtual,
+                "spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                "spring.datasource.hikari.connection-timeout=120000",
+                "bookstore.cache.enabled=false",
+                "bookstore.execution.max-concurrent-requests=" + poolSize * 4,
+                "bookstore.execution.queue-timeout=120s",
+                "server.tomcat.accept-count=2000"
+        );
+        BenchmarkData.seed(context, authors, 0);
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        String contextPath = context.getEnvironment().getProperty("server.servlet.context-path", "");
+        authorsUrl = "http://localhost:" + port + contextPath + "/authors/";
+        httpClient = HttpClient.newHttpClient();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int readOneAuthor() throws IOException, InterruptedException {
+        int id = ThreadLocalRandom.current().nextInt(1, authors + 1);
+
+        HttpResponse<Void> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(authorsUrl + id)).build(),
+                HttpResponse.BodyHandlers.discarding()
+        );
+
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode());
+        }
+
+        return response.statusCode();
+    }
+}
@@ -0,0 +1,116 @@
+package com.dev.bookstore.benchmarks;
+
+import com.dev.bookstore.TestDataUtil;
+import com.dev.bookstore.domain.dto.AuthorDto;
+import com.dev.bookstore.domain.dto.AuthorSummaryDto;
+import com.dev.bookstore.domain.dto.BookSummaryDto;
+import com.dev.bookstore.domain.dto.BookUpdateRequestDto;
+import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.domain.entities.BookEntity;
+import com.dev.bookstore.domain.requests.AuthorUpdateRequest;
+import com.dev.bookstore.domain.requests.BookUpdateRequest;
+import com.dev.bookstore.mappers.impl.AuthorMapper;
+import com.dev.bookstore.mappers.impl.BookMapper;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.dev.bookstore.TestDataUtil.BOOK_ISBN;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private AuthorMapper authorMapper;
+
+    private BookMapper bookMapper;
+
+    private ModelMapper modelMapper;
+
+    private AuthorEntity author;
+
+    private BookEntity book;
+
+    private AuthorDto authorDto;
+
+    private BookUpdateRequestDto bookUpdateRequestDto;
+
+    @Setup
+    public void setUp() {
+        authorMapper = new AuthorMapper();
+        bookMapper = new BookMapper(authorMapper);
+
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.LOOSE);
+
+        author = TestDataUtil.testAuthorEntity(1L);
+        book = TestDataUtil.testBookEntity(BOOK_ISBN, author);
+        authorDto = TestDataUtil.updateTestAuthorDto(1L);
+        bookUpdateRequestDto = BookUpdateRequestDto.builder()
+                .title("New Test Book Title")
+                .description("New Test Book Description.")
+                .build();
+    }
+
+    @Benchmark
+    public AuthorDto authorToDto() {
+        return authorMapper.toDto(author);
+    }
+
+    @Benchmark
+    public AuthorDto authorToDtoWithModelMapper() {
+        return modelMapper.map(author, AuthorDto.class);
+    }
+
+    @Benchmark
+    public AuthorSummaryDto authorToSummaryDto() {
+        return authorMapper.toAuthorSummaryDto(author);
+    }
+
+    @Benchmark
+    public AuthorSummaryDto authorToSummaryDtoWithModelMapper() {
+        return modelMapper.map(author, AuthorSummaryDto.class);
+    }
+
+    @Benchmark
+    public AuthorUpdateRequest authorDtoToUpdateRequest() {
+        return authorMapper.toUpdateRequest(authorDto);
+    }
+
+    @Benchmark
+    public AuthorUpdateRequest authorDtoToUpdateRequestWithModelMapper() {
+        return modelMapper.map(authorDto, AuthorUpdateRequest.class);
+    }
+
+    @Benchmark
+    public BookUpdateRequest bookUpdateRequestDtoToUpdateRequest() {
+        return bookMapper.toBookUpdateRequest(bookUpdateRequestDto);
+    }
+
+    @Benchmark
+    public BookUpdateRequest bookUpdateRequestDtoToUpdateRequestWithModelMapper() {
+        return modelMapper.map(bookUpdateRequestDto, BookUpdateRequest.class);
+    }
+
+    @Benchmark
+    public BookSummaryDto bookToSummaryDto() {
+        return bookMapper.toBookSummaryDto(book);
+    }
+
+    @Benchmark
+    public BookSummaryDto bookToSummaryDtoWithModelMapper() {
+        return BookSummaryDto.builder()
+                .isbn(book.getIsbn())
+                .title(book.getTitle())
+                .description(book.getDescription())
+                .image(book.getImage())
+                .author(modelMapper.map(book.getAuthor(), AuthorSummaryDto.class))
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.dev.bookstore.benchmarks;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+public class QueryLatency implements BeanPostProcessor {
+
+    static final String PROPERTY = "benchmark.query-latency-millis";
+
+    private final long latencyMillis;
+
+    public QueryLatency(Environment environment) {
+        this.latencyMillis = environment.getProperty(PROPERTY, Long.class, 0L);
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (latencyMillis > 0 && bean instanceof HikariDataSource hikariDataSource) {
+            JdbcDataSource h2 = new JdbcDataSource();
+            h2.setURL(hikariDataSource.getJdbcUrl());
+            h2.setUser(hikariDataSource.getUsername());
+            h2.setPassword(hikariDataSource.getPassword());
+
+            hikariDataSource.setDataSource(proxy(DataSource.class, h2));
+        }
+
+        return bean;
+    }
+
+    private <T> T proxy(Class<T> type, T target) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (instance, method, args) -> {
+            if (method.getName().startsWith("executeQuery")) {
+                Thread.sleep(latencyMillis);
+            }
+
+            Object result = invoke(method, target, args);
+
+            if (result instanceof Connection connection) {
+                return proxy(Connection.class, connection);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return proxy(PreparedStatement.class, statement);
+            }
+
+            return result;
+        });
+
+        return type.cast(proxy);
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
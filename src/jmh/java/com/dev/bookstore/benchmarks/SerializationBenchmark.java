@@ -0,0 +1,52 @@
+package com.dev.bookstore.benchmarks;
+
+import com.dev.bookstore.domain.dto.AuthorSummaryDto;
+import com.dev.bookstore.domain.dto.BookSummaryDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"1", "50", "500"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+
+    private List<BookSummaryDto> books;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        books = IntStream.rangeClosed(1, size)
+                .mapToObj(i -> BookSummaryDto.builder()
+                        .isbn(BenchmarkData.isbn(i))
+                        .title("Book Title " + i)
+                        .description("Description of book " + i + ". " + "Lorem ipsum dolor sit amet. ".repeat(10))
+                        .image("book-" + i + ".jpg")
+                        .author(AuthorSummaryDto.builder()
+                                .id((long) i)
+                                .name("Author " + i)
+                                .image("author-" + i + ".jpg")
+                                .build())
+                        .build())
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] writeBookSummaryList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(books);
+    }
+}
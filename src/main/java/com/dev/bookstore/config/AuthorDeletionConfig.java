@@ -0,0 +1,9 @@
+package com.dev.bookstore.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AuthorDeletionProperties.class)
+public class AuthorDeletionConfig {
+}
@@ -0,0 +1,21 @@
+package com.dev.bookstore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "bookstore.author-deletion")
+public class AuthorDeletionProperties {
+
+    private int maxConcurrentJobs = 1;
+
+    private int maxQueuedJobs = 10;
+
+    private int chunkSize = 1000;
+
+    private Duration retention = Duration.ofHours(24);
+
+    private Duration cleanupInterval = Duration.ofMinutes(10);
+}
@@ -0,0 +1,17 @@
+package com.dev.bookstore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "bookstore.author-index")
+public class AuthorIndexProperties {
+
+    private boolean enabled = false;
+
+    private long expectedAuthors = 10_000;
+
+    private long expectedBooks = 100_000;
+
+    private int rebuildBatchSize = 10_000;
+}
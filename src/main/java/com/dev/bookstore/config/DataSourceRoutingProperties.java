@@ -0,0 +1,35 @@
+package com.dev.bookstore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "bookstore.datasource-routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled = false;
+
+    private Duration maxLag = Duration.ofSeconds(2);
+
+    private String lagQuery;
+
+    private Duration lagCheckInterval = Duration.ofSeconds(5);
+
+    private Replica replica = new Replica();
+
+    @Data
+    public static class Replica {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private String driverClassName;
+
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,64 @@
+package com.dev.bookstore.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+@Configuration
+@EnableConfigurationProperties(ExecutionProperties.class)
+public class ExecutionConfig {
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            ExecutionProperties properties,
+            DataSource dataSource
+    ) {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+                maxConcurrentRequests(properties, dataSource),
+                properties.getQueueTimeout()
+        );
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/books", "/books/*", "/authors", "/authors/*");
+
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public MeterBinder concurrencyLimitMetrics(FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter) {
+        return registry -> Gauge.builder(
+                        "bookstore.requests.permits.available",
+                        concurrencyLimitFilter.getFilter(),
+                        ConcurrencyLimitFilter::getAvailablePermits
+                )
+                .register(registry);
+    }
+
+    private static int maxConcurrentRequests(ExecutionProperties properties, DataSource dataSource) {
+        if (properties.getMaxConcurrentRequests() != null) {
+            return properties.getMaxConcurrentRequests();
+        }
+
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize()
+                        * properties.getRequestsPerConnection();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot inspect the data source pool", e);
+        }
+
+        throw new IllegalStateException("bookstore.execution.max-concurrent-requests is required for a non-Hikari data source");
+    }
+}
@@ -0,0 +1,17 @@
+package com.dev.bookstore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "bookstore.execution")
+public class ExecutionProperties {
+
+    private Integer maxConcurrentRequests;
+
+    private int requestsPerConnection = 4;
+
+    private Duration queueTimeout = Duration.ofSeconds(2);
+}
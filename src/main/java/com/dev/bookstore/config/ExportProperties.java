@@ -0,0 +1,24 @@
+package com.dev.bookstore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "bookstore.export")
+public class ExportProperties {
+
+    private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "bookstore-exports");
+
+    private int maxConcurrentJobs = 2;
+
+    private int maxQueuedJobs = 10;
+
+    private int fetchSize = 1_000;
+
+    private Duration retention = Duration.ofHours(24);
+
+    private Duration cleanupInterval = Duration.ofMinutes(10);
+}
@@ -0,0 +1,27 @@
+package com.dev.bookstore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "bookstore.import")
+public class ImportProperties {
+
+    private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "bookstore-imports");
+
+    private int maxConcurrentJobs = 1;
+
+    private int maxQueuedJobs = 5;
+
+    private DataSize maxUploadSize = DataSize.ofMegabytes(512);
+
+    private int batchSize = 500;
+
+    private Duration retention = Duration.ofHours(24);
+
+    private Duration cleanupInterval = Duration.ofMinutes(10);
+}
@@ -0,0 +1,106 @@
+package com.dev.bookstore.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MetricsAspect {
+
+    static final String SERVICE_TIMER = "bookstore.service";
+
+    static final String REPOSITORY_ROWS = "bookstore.repository.rows";
+
+    private static final String REPOSITORY_PACKAGE = "com.dev.bookstore.repositories";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    private final Map<Method, Map<String, Timer>> serviceTimers = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, Map<Method, DistributionSummary>> repositoryRows = new ConcurrentHashMap<>();
+
+    @Around("within(com.dev.bookstore.services.impl..*) && !within(com.dev.bookstore.services.impl.Reactive*)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(serviceTimer(((MethodSignature) joinPoint.getSignature()).getMethod(), exception));
+        }
+    }
+
+    @AfterReturning(pointcut = "bean(*Repository) && !bean(reactive*)", returning = "result")
+    public void countRows(JoinPoint joinPoint, Object result) {
+        long rows = rows(result);
+
+        if (rows < 0) {
+            return;
+        }
+
+        Class<?> repository = joinPoint.getTarget().getClass();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+
+        repositoryRows.computeIfAbsent(repository, type -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method, ignored -> DistributionSummary.builder(REPOSITORY_ROWS)
+                        .tag("repository", repositoryName(repository))
+                        .tag("method", method.getName())
+                        .register(meterRegistry))
+                .record(rows);
+    }
+
+    private Timer serviceTimer(Method method, String exception) {
+        return serviceTimers.computeIfAbsent(method, ignored -> new ConcurrentHashMap<>())
+                .computeIfAbsent(exception, ignored -> Timer.builder(SERVICE_TIMER)
+                        .tag("class", method.getDeclaringClass().getSimpleName())
+                        .tag("method", method.getName())
+                        .tag("exception", exception)
+                        .register(meterRegistry));
+    }
+
+    private String repositoryName(Class<?> repository) {
+        return repositoryNames.computeIfAbsent(repository, type -> Arrays.stream(type.getInterfaces())
+                .filter(repositoryInterface -> repositoryInterface.getPackageName().equals(REPOSITORY_PACKAGE))
+                .map(Class::getSimpleName)
+                .findFirst()
+                .orElse(type.getSimpleName()));
+    }
+
+    private static long rows(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+
+        return -1;
+    }
+}
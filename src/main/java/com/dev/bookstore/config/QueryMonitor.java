@@ -0,0 +1,192 @@
+package com.dev.bookstore.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@RequiredArgsConstructor
+public class QueryMonitor implements AsyncHandlerInterceptor, CallableProcessingInterceptor {
+
+    static final String QUERIES = "bookstore.request.queries";
+
+    static final String QUERY_TIME = "bookstore.request.query.time";
+
+    static final String FLAGGED = "bookstore.request.flagged";
+
+    private static final String STATS_ATTRIBUTE = QueryMonitor.class.getName() + ".stats";
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 200;
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private final QueryMonitorProperties properties;
+
+    private final MeterRegistry meterRegistry;
+
+    public QueryStats begin(String handler) {
+        QueryStats stats = new QueryStats(handler);
+        CURRENT.set(stats);
+
+        return stats;
+    }
+
+    public QueryStats end() {
+        QueryStats stats = CURRENT.get();
+        CURRENT.remove();
+
+        if (stats != null) {
+            report(stats);
+        }
+
+        return stats;
+    }
+
+    static void record(String sql, long nanos) {
+        QueryStats stats = CURRENT.get();
+
+        if (stats != null) {
+            stats.queries++;
+            stats.queryNanos += nanos;
+            stats.statements.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            if (request.getAttribute(STATS_ATTRIBUTE) instanceof QueryStats stats) {
+                CURRENT.set(stats);
+            }
+        } else {
+            request.setAttribute(STATS_ATTRIBUTE,
+                    begin(handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName()));
+        }
+
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        CURRENT.remove();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        request.removeAttribute(STATS_ATTRIBUTE);
+        end();
+    }
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        if (request.getAttribute(STATS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof QueryStats stats) {
+            CURRENT.set(stats);
+        }
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        CURRENT.remove();
+    }
+
+    private void report(QueryStats stats) {
+        DistributionSummary.builder(QUERIES)
+                .tag("handler", stats.handler)
+                .register(meterRegistry)
+                .record(stats.queries);
+        Timer.builder(QUERY_TIME)
+                .tag("handler", stats.handler)
+                .register(meterRegistry)
+                .record(stats.queryNanos, TimeUnit.NANOSECONDS);
+
+        Map.Entry<String, Integer> mostRepeated = stats.statements.entrySet()
+                .stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+
+        List<String> reasons = new ArrayList<>();
+
+        if (stats.queries > properties.getMaxQueries()) {
+            reasons.add("query-count");
+        }
+        if (mostRepeated != null && mostRepeated.getValue() > properties.getMaxRepeatedStatements()) {
+            reasons.add("repeated-statement");
+        }
+        if (stats.getQueryTime().compareTo(properties.getMaxQueryTime()) > 0) {
+            reasons.add("query-time");
+        }
+
+        if (reasons.isEmpty()) {
+            return;
+        }
+
+        stats.reasons.addAll(reasons);
+        reasons.forEach(reason -> Counter.builder(FLAGGED)
+                .tag("handler", stats.handler)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment());
+
+        log.warn("Query budget exceeded handler={} reasons={} queries={} queryTimeMs={} repeatedStatementCount={} repeatedStatement=\"{}\"",
+                stats.handler,
+                String.join(",", reasons),
+                stats.queries,
+                stats.getQueryTime().toMillis(),
+                mostRepeated != null ? mostRepeated.getValue() : 0,
+                mostRepeated != null ? abbreviate(mostRepeated.getKey()) : "");
+    }
+
+    private static String abbreviate(String sql) {
+        String singleLine = sql.replaceAll("\\s+", " ").trim();
+
+        return singleLine.length() > MAX_LOGGED_SQL_LENGTH
+                ? singleLine.substring(0, MAX_LOGGED_SQL_LENGTH) + "..."
+                : singleLine;
+    }
+
+    @Getter
+    public static class QueryStats {
+
+        private final String handler;
+
+        private final Map<String, Integer> statements = new HashMap<>();
+
+        private final List<String> reasons = new ArrayList<>();
+
+        private int queries;
+
+        private long queryNanos;
+
+        private QueryStats(String handler) {
+            this.handler = handler;
+        }
+
+        public Duration getQueryTime() {
+            return Duration.ofNanos(queryNanos);
+        }
+    }
+}
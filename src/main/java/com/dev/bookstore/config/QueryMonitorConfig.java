@@ -0,0 +1,55 @@
+package com.dev.bookstore.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+@Configuration
+@EnableConfigurationProperties(QueryMonitorProperties.class)
+@ConditionalOnProperty(prefix = "bookstore.query-monitor", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryMonitorConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public QueryMonitor queryMonitor(QueryMonitorProperties properties, MeterRegistry meterRegistry) {
+        return new QueryMonitor(properties, meterRegistry);
+    }
+
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && beanName.equals(DATA_SOURCE_BEAN)) {
+                    return new QueryCountingDataSource(dataSource);
+                }
+
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public WebMvcConfigurer queryMonitorInterceptor(QueryMonitor queryMonitor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(queryMonitor);
+            }
+
+            @Override
+            public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+                configurer.registerCallableInterceptors(queryMonitor);
+            }
+        };
+    }
+}
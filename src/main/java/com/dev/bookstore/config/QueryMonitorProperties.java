@@ -0,0 +1,19 @@
+package com.dev.bookstore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "bookstore.query-monitor")
+public class QueryMonitorProperties {
+
+    private boolean enabled = true;
+
+    private int maxQueries = 20;
+
+    private int maxRepeatedStatements = 5;
+
+    private Duration maxQueryTime = Duration.ofMillis(500);
+}
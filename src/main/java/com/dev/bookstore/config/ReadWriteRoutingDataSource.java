@@ -0,0 +1,83 @@
+package com.dev.bookstore.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    public static final String REPLICA = "replica";
+
+    static final String ROUTED_CONNECTIONS = "bookstore.datasource.routed";
+
+    private static final Object WRITE_TRACKED = new Object();
+
+    private final ReadYourWritesFilter readYourWrites;
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    private final Counter primaryConnections;
+
+    private final Counter replicaConnections;
+
+    public ReadWriteRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            ReadYourWritesFilter readYourWrites,
+            ReplicaLagMonitor lagMonitor,
+            MeterRegistry meterRegistry
+    ) {
+        this.readYourWrites = readYourWrites;
+        this.lagMonitor = lagMonitor;
+        this.primaryConnections = meterRegistry.counter(ROUTED_CONNECTIONS, "pool", PRIMARY);
+        this.replicaConnections = meterRegistry.counter(ROUTED_CONNECTIONS, "pool", REPLICA);
+
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWrite();
+            primaryConnections.increment();
+            return PRIMARY;
+        }
+
+        if (readYourWrites.isPinnedToPrimary() || !lagMonitor.isReplicaAvailable()) {
+            primaryConnections.increment();
+            return PRIMARY;
+        }
+
+        replicaConnections.increment();
+        return REPLICA;
+    }
+
+    private void trackWrite() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_TRACKED)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(WRITE_TRACKED, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWrites.recordWrite();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_TRACKED);
+            }
+        });
+    }
+}
@@ -0,0 +1,89 @@
+package com.dev.bookstore.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "bookstore-primary-until";
+
+    private final Duration window;
+
+    private final ThreadLocal<Long> primaryUntil = new ThreadLocal<>();
+
+    private final ThreadLocal<HttpServletRequest> currentRequest = new ThreadLocal<>();
+
+    private final ThreadLocal<HttpServletResponse> currentResponse = new ThreadLocal<>();
+
+    public ReadYourWritesFilter(Duration window) {
+        this.window = window;
+    }
+
+    public boolean isPinnedToPrimary() {
+        Long until = primaryUntil.get();
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    public void recordWrite() {
+        HttpServletResponse response = currentResponse.get();
+
+        if (response == null) {
+            return;
+        }
+
+        long until = System.currentTimeMillis() + window.toMillis();
+        primaryUntil.set(until);
+
+        if (!response.isCommitted()) {
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(until));
+            String contextPath = currentRequest.get().getContextPath();
+
+            cookie.setPath(contextPath.isEmpty() ? "/" : contextPath);
+            cookie.setMaxAge((int) Math.max(window.toSeconds(), 1));
+            cookie.setHttpOnly(true);
+            response.addCookie(cookie);
+        }
+    }
+
+    public void reset() {
+        primaryUntil.remove();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        Cookie cookie = WebUtils.getCookie(request, COOKIE_NAME);
+
+        if (cookie != null) {
+            try {
+                primaryUntil.set(Math.min(Long.parseLong(cookie.getValue()), System.currentTimeMillis() + window.toMillis()));
+            } catch (NumberFormatException e) {
+                primaryUntil.remove();
+            }
+        } else {
+            primaryUntil.remove();
+        }
+
+        currentRequest.set(request);
+        currentResponse.set(response);
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            primaryUntil.remove();
+            currentRequest.remove();
+            currentResponse.remove();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.dev.bookstore.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replica;
+
+    private final DataSourceRoutingProperties properties;
+
+    private volatile double lagSeconds;
+
+    private volatile boolean available = true;
+
+    public ReplicaLagMonitor(DataSource replica, DataSourceRoutingProperties properties) {
+        this.replica = new JdbcTemplate(replica);
+        this.properties = properties;
+    }
+
+    public boolean isReplicaAvailable() {
+        return available;
+    }
+
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${bookstore.datasource-routing.lag-check-interval:5s}")
+    public void refresh() {
+        if (!StringUtils.hasText(properties.getLagQuery())) {
+            return;
+        }
+
+        boolean wasAvailable = available;
+
+        try {
+            Number lag = replica.queryForObject(properties.getLagQuery(), Number.class);
+
+            lagSeconds = lag != null ? lag.doubleValue() : Double.POSITIVE_INFINITY;
+            available = Duration.ofMillis((long) Math.min(lagSeconds * 1000, Long.MAX_VALUE))
+                    .compareTo(properties.getMaxLag()) <= 0;
+        } catch (Exception e) {
+            lagSeconds = Double.POSITIVE_INFINITY;
+            available = false;
+
+            log.warn("Replica lag check failed", e);
+        }
+
+        if (wasAvailable != available) {
+            log.info("Replica reads {} (lag {}s, tolerance {})",
+                    available ? "resumed" : "suspended", lagSeconds, properties.getMaxLag());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.dev.bookstore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "bookstore.response-cache")
+public class ResponseCacheProperties {
+
+    private boolean enabled = true;
+
+    private long bookMaxEntries = 1_000;
+
+    private long authorMaxEntries = 1_000;
+}
@@ -0,0 +1,18 @@
+package com.dev.bookstore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "bookstore.search")
+public class SearchIndexProperties {
+
+    private Path directory;
+
+    private Duration commitInterval = Duration.ofSeconds(5);
+
+    private int reindexBatchSize = 1_000;
+}
@@ -0,0 +1,89 @@
+package com.dev.bookstore.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.UUID;
+
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfig {
+
+    public static final String AUTHORS_REGION = "authors";
+
+    public static final String BOOKS_REGION = "books";
+
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties) {
+        org.ehcache.config.Configuration configuration = ConfigurationBuilder.newConfigurationBuilder()
+                .withCache(AUTHORS_REGION, region(properties.getAuthors()))
+                .withCache(BOOKS_REGION, region(properties.getBooks()))
+                .withCache(QUERY_RESULTS_REGION, region(properties.getQueries()))
+                .withCache(UPDATE_TIMESTAMPS_REGION, CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                        Object.class, Object.class, ResourcePoolsBuilder.heap(1_000)
+                ).withExpiry(ExpiryPolicyBuilder.noExpiration()))
+                .build();
+
+        EhcacheCachingProvider cachingProvider =
+                (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+
+        CacheManager cacheManager = cachingProvider.getCacheManager(
+                URI.create("urn:bookstore:second-level-cache:" + UUID.randomUUID()),
+                configuration
+        );
+
+        cacheManager.getCacheNames().forEach(name -> {
+            cacheManager.enableStatistics(name, true);
+            cacheManager.enableManagement(name, true);
+        });
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            SecondLevelCacheProperties properties,
+            CacheManager secondLevelCacheManager
+    ) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, properties.isEnabled());
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, properties.isEnabled());
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, properties.isStatisticsEnabled());
+            hibernateProperties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager secondLevelCacheManager) {
+        return registry -> secondLevelCacheManager.getCacheNames().forEach(name ->
+                JCacheMetrics.monitor(registry, secondLevelCacheManager.getCache(name))
+        );
+    }
+
+    private static CacheConfigurationBuilder<Object, Object> region(SecondLevelCacheProperties.Region region) {
+        return CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                Object.class, Object.class, ResourcePoolsBuilder.heap(region.getMaxEntries())
+        ).withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(region.getTimeToLive()));
+    }
+}
@@ -0,0 +1,31 @@
+package com.dev.bookstore.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "bookstore.cache")
+public class SecondLevelCacheProperties {
+
+    private boolean enabled = true;
+
+    private boolean statisticsEnabled = false;
+
+    private Region authors = new Region(10_000, Duration.ofMinutes(30));
+
+    private Region books = new Region(100_000, Duration.ofMinutes(30));
+
+    private Region queries = new Region(500, Duration.ofMinutes(5));
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Region {
+        private long maxEntries;
+        private Duration timeToLive;
+    }
+}
@@ -1,27 +1,63 @@
 package com.dev.bookstore.controllers;
 
 import com.dev.bookstore.domain.dto.AuthorDto;
+import com.dev.bookstore.domain.dto.AuthorPageDto;
+import com.dev.bookstore.domain.dto.BookSummaryDto;
 import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.domain.requests.AuthorField;
 import com.dev.bookstore.domain.requests.AuthorUpdateRequest;
+import com.dev.bookstore.domain.response.AuthorDeletionJobResponse;
 import com.dev.bookstore.mappers.impl.AuthorMapper;
+import com.dev.bookstore.mappers.impl.BookMapper;
+import com.dev.bookstore.services.AuthorDeletionService;
 import com.dev.bookstore.services.AuthorService;
+import com.dev.bookstore.services.BookCountService;
+import com.dev.bookstore.services.BookService;
+import com.dev.bookstore.services.ResponseBodyCache;
+import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping(path = "/authors")
 @RequiredArgsConstructor
 public class AuthorController {
 
+    public static final int MAX_BATCH_SIZE = 10_000;
+
+    public static final String TOTAL_COUNT = "X-Total-Count";
+
+    private static final String RETRY_AFTER_SECONDS = "30";
+
     private final AuthorService authorService;
 
     private final AuthorMapper authorMapper;
 
+    private final BookService bookService;
+
+    private final BookCountService bookCountService;
+
+    private final BookMapper bookMapper;
+
+    private final ResponseBodyCache responseBodyCache;
+
+    private final AuthorDeletionService authorDeletionService;
+
     @PostMapping
     public ResponseEntity<AuthorDto> createAuthor(@RequestBody AuthorDto authorDto) {
         try {
@@ -33,23 +69,124 @@ public class AuthorController {
         }
     }
 
+    @PostMapping(path = "/batch")
+    public ResponseEntity<List<AuthorDto>> createAuthors(@RequestBody List<AuthorDto> authorDtos) {
+        if (authorDtos.size() > MAX_BATCH_SIZE) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        try {
+            List<AuthorEntity> authorsToCreate = authorDtos.stream()
+                    .map(authorMapper::toEntity)
+                    .toList();
+
+            List<AuthorDto> createdAuthors = authorService.createAll(authorsToCreate)
+                    .stream()
+                    .map(authorMapper::toDto)
+                    .toList();
+
+            return new ResponseEntity<>(createdAuthors, HttpStatus.CREATED);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
     @GetMapping
-    public List<AuthorDto> readManyAuthors() {
-        return authorService.list()
-                .stream()
-                .map(authorMapper::toDto)
+    public ResponseEntity<List<AuthorPageDto>> readAuthorPage(
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "" + BookController.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(name = "sort", defaultValue = "id") String sort,
+            @Nullable @RequestParam("fields") String fields
+    ) {
+        int pageSize = Math.min(Math.max(size, 1), BookController.MAX_PAGE_SIZE);
+
+        if (page < 0 || (long) page * pageSize > Integer.MAX_VALUE) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        Set<AuthorField> selectedFields;
+        Sort order;
+
+        try {
+            selectedFields = parseFields(fields);
+            order = parseSort(sort);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        List<AuthorPageDto> authors = authorService.listPage(selectedFields, order, page, pageSize).stream()
+                .map(authorMapper::toAuthorPageDto)
                 .toList();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+
+        if (authors.size() == pageSize) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("page", page + 1)
+                    .replaceQueryParam("size", pageSize)
+                    .toUriString();
+
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+
+        return response.body(authors);
     }
 
     @GetMapping(path = "/{id}")
-    public ResponseEntity<AuthorDto> readOneAuthor(@PathVariable("id") Long id) {
+    public ResponseEntity<byte[]> readOneAuthor(@PathVariable("id") Long id, WebRequest webRequest) {
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Long version = authorService.getVersion(id);
+
+            if (version == null) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+
+            String etag = ETags.ofAuthor(version);
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
+
         return Optional.ofNullable(authorService.get(id))
-                .map(foundAuthor ->
-                        new ResponseEntity<>(authorMapper.toDto(foundAuthor), HttpStatus.OK)
+                .map(foundAuthor -> ResponseEntity.ok()
+                        .eTag(ETags.ofAuthor(foundAuthor))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(responseBodyCache.getAuthor(foundAuthor))
                 )
                 .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
+    @GetMapping(path = "/{id}/books")
+    public ResponseEntity<List<BookSummaryDto>> readAuthorBooks(
+            @PathVariable("id") Long id,
+            @Nullable @RequestParam("after") String after,
+            @RequestParam(name = "limit", defaultValue = "" + BookController.DEFAULT_PAGE_SIZE) int limit
+    ) {
+        int pageSize = Math.min(Math.max(limit, 1), BookController.MAX_PAGE_SIZE);
+
+        List<BookSummaryDto> books = bookService.list(id, after, pageSize)
+                .stream()
+                .map(bookMapper::toBookSummaryDto)
+                .toList();
+
+        if (books.isEmpty() && authorService.getVersion(id) == null) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(TOTAL_COUNT, String.valueOf(bookCountService.getBookCount(id)));
+
+        if (books.size() == pageSize) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", books.get(books.size() - 1).getIsbn())
+                    .replaceQueryParam("limit", pageSize)
+                    .toUriString();
+
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+
+        return response.body(books);
+    }
+
     @PutMapping(path = "/{id}")
     public ResponseEntity<AuthorDto> fullUpdateAuthor(
             @PathVariable("id") Long id,
@@ -67,21 +204,118 @@ public class AuthorController {
     @PatchMapping(path = "/{id}")
     public ResponseEntity<AuthorDto> partialUpdateAuthor(
             @PathVariable("id") Long id,
-            @RequestBody AuthorDto authorDto
+            @RequestBody AuthorDto authorDto,
+            @Nullable @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Nullable @RequestHeader(name = Preferences.PREFER, required = false) String prefer
     ) {
+        Long expectedVersion;
+
+        try {
+            expectedVersion = ETags.parseVersion(ifMatch);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+        }
+
         try {
             AuthorUpdateRequest request = authorMapper.toUpdateRequest(authorDto);
-            AuthorEntity updatedAuthor = authorService.partialUpdate(id, request);
 
-            return new ResponseEntity<>(authorMapper.toDto(updatedAuthor), HttpStatus.OK);
+            if (request.getName() == null && request.getAge() == null && request.getDescription() == null
+                    && request.getImage() == null) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+
+            if (Preferences.returnMinimal(prefer)) {
+                long version = authorService.patch(id, request, expectedVersion);
+
+                return ResponseEntity.noContent()
+                        .eTag(ETags.ofAuthor(version))
+                        .header(Preferences.PREFERENCE_APPLIED, Preferences.RETURN_MINIMAL)
+                        .build();
+            }
+
+            AuthorEntity updatedAuthor;
+
+            if (expectedVersion == null) {
+                updatedAuthor = authorService.partialUpdate(id, request);
+            } else {
+                authorService.patch(id, request, expectedVersion);
+                updatedAuthor = authorService.get(id);
+            }
+
+            return ResponseEntity.ok()
+                    .eTag(ETags.ofAuthor(updatedAuthor))
+                    .body(authorMapper.toDto(updatedAuthor));
+        } catch (OptimisticLockingFailureException e) {
+            return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
         } catch (IllegalStateException e) {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
     }
 
     @DeleteMapping(path = "/{id}")
-    public ResponseEntity<Void> deleteAuthor(@PathVariable("id") Long id) {
-        authorService.delete(id);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<AuthorDeletionJobResponse> deleteAuthor(
+            @PathVariable("id") Long id,
+            @RequestParam(name = "async", defaultValue = "false") boolean async
+    ) {
+        if (!async) {
+            authorService.delete(id);
+            return ResponseEntity.noContent().build();
+        }
+
+        AuthorDeletionJobResponse job;
+
+        try {
+            job = authorDeletionService.start(id);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .build();
+        }
+
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                        .path("/authors/deletions/{jobId}")
+                        .buildAndExpand(job.getId())
+                        .toUri())
+                .body(job);
+    }
+
+    @GetMapping(path = "/deletions/{jobId}")
+    public ResponseEntity<AuthorDeletionJobResponse> readAuthorDeletion(@PathVariable("jobId") String jobId) {
+        return authorDeletionService.get(jobId)
+                .map(job -> new ResponseEntity<>(job, HttpStatus.OK))
+                .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    private static Set<AuthorField> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return EnumSet.of(AuthorField.ID, AuthorField.NAME, AuthorField.IMAGE);
+        }
+
+        Set<AuthorField> selected = EnumSet.noneOf(AuthorField.class);
+
+        for (String field : fields.split(",")) {
+            selected.add(AuthorField.fromProperty(field.trim()));
+        }
+
+        return selected;
+    }
+
+    private static Sort parseSort(String sort) {
+        List<Sort.Order> orders = new ArrayList<>();
+
+        for (String property : sort.split(",")) {
+            String name = property.trim();
+            boolean descending = name.startsWith("-");
+            AuthorField field = AuthorField.fromProperty(descending ? name.substring(1) : name);
+
+            if (!field.isSortable()) {
+                throw new IllegalArgumentException("Cannot sort authors by " + field.getProperty());
+            }
+
+            orders.add(descending ? Sort.Order.desc(field.getProperty()) : Sort.Order.asc(field.getProperty()));
+        }
+
+        return Sort.by(orders);
     }
 }
@@ -3,26 +3,57 @@ package com.dev.bookstore.controllers;
 import com.dev.bookstore.domain.dto.BookSummaryDto;
 import com.dev.bookstore.domain.dto.BookUpdateRequestDto;
 import com.dev.bookstore.domain.entities.BookEntity;
+import com.dev.bookstore.domain.projections.BookSummaryEntry;
+import com.dev.bookstore.domain.requests.BookSummary;
+import com.dev.bookstore.domain.requests.BookUpdateRequest;
 import com.dev.bookstore.domain.response.BookResponse;
+import com.dev.bookstore.domain.response.BookUpsertResult;
 import com.dev.bookstore.mappers.impl.BookMapper;
+import com.dev.bookstore.services.BookSearchService;
 import com.dev.bookstore.services.BookService;
+import com.dev.bookstore.services.BookSummaryReadModel;
+import com.dev.bookstore.services.ResponseBodyCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping(path = "/books")
 @RequiredArgsConstructor
 public class BookController {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    public static final int MAX_PAGE_SIZE = 500;
+
+    public static final int MAX_BATCH_SIZE = 5_000;
+
+    private static final int STREAM_PAGE_SIZE = 500;
+
     private final BookService bookService;
 
+    private final BookSearchService bookSearchService;
+
+    private final BookSummaryReadModel bookSummaryReadModel;
+
+    private final ResponseBodyCache responseBodyCache;
+
     private final BookMapper bookMapper;
 
+    private final ObjectMapper objectMapper;
+
     @PutMapping(path = "/{isbn}")
     public ResponseEntity<BookSummaryDto> createAndFullUpdateBook(
             @PathVariable("isbn") String isbn,
@@ -36,39 +67,179 @@ public class BookController {
 
             HttpStatus responseCode = isCreated ? HttpStatus.CREATED : HttpStatus.OK;
 
-            return new ResponseEntity<>(bookMapper.toBookSummaryDto(savedBook), responseCode);
+            BookSummaryDto body = bookSummaryReadModel.get(isbn)
+                    .filter(entry -> savedBook.getVersion() != null && entry.getVersion() == savedBook.getVersion())
+                    .map(BookSummaryEntry::getSummary)
+                    .orElseGet(() -> bookMapper.toBookSummaryDto(savedBook));
+
+            return new ResponseEntity<>(body, responseCode);
         } catch (IllegalStateException e) {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
     }
 
+    @PutMapping
+    public ResponseEntity<List<BookUpsertResult>> createAndFullUpdateBooks(
+            @RequestBody List<BookSummaryDto> bookSummaryDtos
+    ) {
+        if (bookSummaryDtos.size() > MAX_BATCH_SIZE) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        List<BookSummary> bookSummaries = bookSummaryDtos.stream()
+                .map(bookMapper::toBookSummary)
+                .toList();
+
+        return new ResponseEntity<>(bookService.createUpdateAll(bookSummaries), HttpStatus.OK);
+    }
+
     @GetMapping
-    public List<BookSummaryDto> readManyBooks(@Nullable @RequestParam("author") Long authorId) {
-        List<BookEntity> books = bookService.list(authorId);
+    public ResponseEntity<List<BookSummaryDto>> readManyBooks(
+            @Nullable @RequestParam("author") Long authorId,
+            @Nullable @RequestParam("after") String after,
+            @RequestParam(name = "limit", defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            WebRequest webRequest
+    ) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        List<BookSummaryEntry> page = bookSummaryReadModel.list(authorId, after, pageSize);
+        String etag = ETags.ofBookSummaries(page);
 
-        return books.stream()
-                .map(bookMapper::toBookSummaryDto)
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        List<BookSummaryDto> books = page.stream()
+                .map(BookSummaryEntry::getSummary)
                 .toList();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag);
+
+        if (books.size() == pageSize) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", books.get(books.size() - 1).getIsbn())
+                    .replaceQueryParam("limit", pageSize)
+                    .toUriString();
+
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+
+        return response.body(books);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamManyBooks(
+            @Nullable @RequestParam("author") Long authorId,
+            @Nullable @RequestParam("after") String after
+    ) {
+        StreamingResponseBody body = outputStream -> {
+            String cursor = after;
+            List<BookSummaryEntry> page;
+
+            do {
+                page = bookSummaryReadModel.list(authorId, cursor, STREAM_PAGE_SIZE);
+
+                for (BookSummaryEntry book : page) {
+                    outputStream.write(objectMapper.writeValueAsBytes(book.getSummary()));
+                    outputStream.write('\n');
+                }
+                outputStream.flush();
+
+                if (!page.isEmpty()) {
+                    cursor = page.get(page.size() - 1).getIsbn();
+                }
+            } while (page.size() == STREAM_PAGE_SIZE);
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping(path = "/search")
+    public ResponseEntity<List<BookSummaryDto>> searchBooks(
+            @RequestParam(name = "q", defaultValue = "") String query,
+            @RequestParam(name = "limit", defaultValue = "" + DEFAULT_PAGE_SIZE) int limit
+    ) {
+        if (query.isBlank()) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        return new ResponseEntity<>(bookSearchService.search(query, pageSize), HttpStatus.OK);
     }
 
     @GetMapping(path = "/{isbn}")
-    public ResponseEntity<BookSummaryDto> readOneBook(@PathVariable("isbn") String isbn) {
-        try {
-            BookEntity foundBook = bookService.get(isbn);
-            return new ResponseEntity<>(bookMapper.toBookSummaryDto(foundBook), HttpStatus.OK);
-        } catch (IllegalStateException e) {
+    public ResponseEntity<byte[]> readOneBook(@PathVariable("isbn") String isbn, WebRequest webRequest) {
+        Optional<BookSummaryEntry> foundBook = bookSummaryReadModel.get(isbn);
+
+        if (foundBook.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
+
+        String etag = ETags.ofBook(foundBook.get());
+
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(responseBodyCache.getBook(foundBook.get()));
     }
 
     @PatchMapping(path = "/{isbn}")
     public ResponseEntity<BookSummaryDto> partialUpdateBook(
             @PathVariable("isbn") String isbn,
-            @RequestBody BookUpdateRequestDto bookUpdateRequestDto
+            @RequestBody BookUpdateRequestDto bookUpdateRequestDto,
+            @Nullable @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Nullable @RequestHeader(name = Preferences.PREFER, required = false) String prefer
     ) {
+        Long expectedVersion;
+
+        try {
+            expectedVersion = ETags.parseVersion(ifMatch);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+        }
+
         try {
-            BookEntity updatedBook = bookService.partialUpdate(isbn, bookMapper.toBookUpdateRequest(bookUpdateRequestDto));
-            return new ResponseEntity<>(bookMapper.toBookSummaryDto(updatedBook), HttpStatus.OK);
+            BookUpdateRequest bookUpdateRequest = bookMapper.toBookUpdateRequest(bookUpdateRequestDto);
+
+            if (bookUpdateRequest.getTitle() == null && bookUpdateRequest.getDescription() == null
+                    && bookUpdateRequest.getImage() == null) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+
+            if (Preferences.returnMinimal(prefer)) {
+                long version = bookService.patch(isbn, bookUpdateRequest, expectedVersion);
+                String etag = bookSummaryReadModel.get(isbn)
+                        .filter(entry -> entry.getVersion() == version)
+                        .map(ETags::ofBook)
+                        .orElseGet(() -> ETags.ofBook(bookService.get(isbn)));
+
+                return ResponseEntity.noContent()
+                        .eTag(etag)
+                        .header(Preferences.PREFERENCE_APPLIED, Preferences.RETURN_MINIMAL)
+                        .build();
+            }
+
+            BookEntity updatedBook;
+
+            if (expectedVersion == null) {
+                updatedBook = bookService.partialUpdate(isbn, bookUpdateRequest);
+            } else {
+                bookService.patch(isbn, bookUpdateRequest, expectedVersion);
+                updatedBook = bookService.get(isbn);
+            }
+
+            return ResponseEntity.ok()
+                    .eTag(ETags.ofBook(updatedBook))
+                    .body(bookMapper.toBookSummaryDto(updatedBook));
+        } catch (OptimisticLockingFailureException e) {
+            return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
         } catch (IllegalStateException e) {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
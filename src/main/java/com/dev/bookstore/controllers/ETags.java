@@ -0,0 +1,74 @@
+package com.dev.bookstore.controllers;
+
+import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.domain.entities.BookEntity;
+import com.dev.bookstore.domain.projections.BookSummaryEntry;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String ofBook(BookSummaryEntry book) {
+        return quote(bookVersion(book.getVersion(), book.getAuthorId(), book.getAuthorVersion()));
+    }
+
+    static String ofBook(BookEntity book) {
+        AuthorEntity author = book.getAuthor();
+
+        return quote(bookVersion(
+                book.getVersion(), author != null ? author.getId() : null, author != null ? author.getVersion() : null
+        ));
+    }
+
+    static String ofBookSummaries(List<BookSummaryEntry> books) {
+        return digest(books.stream().map(book -> book.getIsbn() + ":" + bookVersion(
+                book.getVersion(), book.getAuthorId(), book.getAuthorVersion()
+        )));
+    }
+
+    static String ofAuthor(AuthorEntity author) {
+        return ofAuthor(author.getVersion());
+    }
+
+    static String ofAuthor(Long version) {
+        return quote(String.valueOf(Objects.requireNonNullElse(version, 0L)));
+    }
+
+    static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String value = ifMatch.trim();
+
+        if (value.length() < 2 || !value.startsWith("\"") || !value.endsWith("\"")) {
+            throw new IllegalArgumentException("Malformed entity tag: " + ifMatch);
+        }
+
+        value = value.substring(1, value.length() - 1);
+        int separator = value.indexOf('-');
+
+        return Long.valueOf(separator >= 0 ? value.substring(0, separator) : value);
+    }
+
+    private static String bookVersion(Long version, Long authorId, Long authorVersion) {
+        return Objects.requireNonNullElse(version, 0L) + "-" + authorId + "." + Objects.requireNonNullElse(authorVersion, 0L);
+    }
+
+    private static String digest(Stream<String> entries) {
+        String content = entries.collect(Collectors.joining(";"));
+        return quote(DigestUtils.md5DigestAsHex(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+}
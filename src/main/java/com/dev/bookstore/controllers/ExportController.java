@@ -0,0 +1,122 @@
+package com.dev.bookstore.controllers;
+
+import com.dev.bookstore.domain.requests.CatalogFileFormat;
+import com.dev.bookstore.domain.response.ExportJobResponse;
+import com.dev.bookstore.domain.response.JobStatus;
+import com.dev.bookstore.services.ExportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.apache.catalina.Globals;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping(path = "/exports")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+
+    private static final String RETRY_AFTER_SECONDS = "30";
+
+    private final ExportService exportService;
+
+    @PostMapping
+    public ResponseEntity<ExportJobResponse> startExport(@RequestParam(name = "format", defaultValue = "csv") String format) {
+        CatalogFileFormat fileFormat;
+
+        try {
+            fileFormat = CatalogFileFormat.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        ExportJobResponse job;
+
+        try {
+            job = exportService.start(fileFormat);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .build();
+        }
+
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequest()
+                        .replaceQuery(null)
+                        .path("/{id}")
+                        .buildAndExpand(job.getId())
+                        .toUri())
+                .body(job);
+    }
+
+    @GetMapping(path = "/{id}")
+    public ResponseEntity<ExportJobResponse> readExport(@PathVariable("id") String id) {
+        return exportService.get(id)
+                .map(job -> new ResponseEntity<>(job, HttpStatus.OK))
+                .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    @GetMapping(path = "/{id}/file")
+    public ResponseEntity<StreamingResponseBody> downloadExport(
+            @PathVariable("id") String id,
+            HttpServletRequest request
+    ) throws IOException {
+        Optional<ExportJobResponse> job = exportService.get(id);
+
+        if (job.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        Optional<Path> file = exportService.getFile(id);
+
+        if (file.isEmpty() || job.get().getStatus() != JobStatus.COMPLETED) {
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
+        }
+
+        Path path = file.get();
+        long length = Files.size(path);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(GZIP)
+                .contentLength(length)
+                .header("Content-Disposition", ContentDisposition.attachment()
+                        .filename(job.get().getFileName())
+                        .build()
+                        .toString());
+
+        if (Boolean.TRUE.equals(request.getAttribute(Globals.SENDFILE_SUPPORTED_ATTR))) {
+            request.setAttribute(Globals.SENDFILE_FILENAME_ATTR, path.toAbsolutePath().toString());
+            request.setAttribute(Globals.SENDFILE_FILE_START_ATTR, 0L);
+            request.setAttribute(Globals.SENDFILE_FILE_END_ATTR, length);
+
+            return response.build();
+        }
+
+        return response.body(outputStream -> {
+            try (FileChannel channel = FileChannel.open(path)) {
+                WritableByteChannel target = Channels.newChannel(outputStream);
+                long position = 0;
+
+                while (position < length) {
+                    position += channel.transferTo(position, length - position, target);
+                }
+            }
+        });
+    }
+}
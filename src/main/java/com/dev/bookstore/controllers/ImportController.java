@@ -0,0 +1,88 @@
+package com.dev.bookstore.controllers;
+
+import com.dev.bookstore.domain.requests.CatalogFileFormat;
+import com.dev.bookstore.domain.response.ImportJobResponse;
+import com.dev.bookstore.services.ImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping(path = "/imports")
+@RequiredArgsConstructor
+public class ImportController {
+
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+
+    private static final String RETRY_AFTER_SECONDS = "30";
+
+    private final ImportService importService;
+
+    @PostMapping
+    public ResponseEntity<ImportJobResponse> startImport(
+            @RequestParam(name = "format", defaultValue = "csv") String format,
+            InputStream content
+    ) throws IOException {
+        CatalogFileFormat fileFormat;
+
+        try {
+            fileFormat = CatalogFileFormat.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        ImportJobResponse job;
+
+        try {
+            job = importService.start(fileFormat, content);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .build();
+        } catch (MaxUploadSizeExceededException e) {
+            return new ResponseEntity<>(HttpStatus.PAYLOAD_TOO_LARGE);
+        }
+
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequest()
+                        .replaceQuery(null)
+                        .path("/{id}")
+                        .buildAndExpand(job.getId())
+                        .toUri())
+                .body(job);
+    }
+
+    @GetMapping(path = "/{id}")
+    public ResponseEntity<ImportJobResponse> readImport(@PathVariable("id") String id) {
+        return importService.get(id)
+                .map(job -> new ResponseEntity<>(job, HttpStatus.OK))
+                .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    @GetMapping(path = "/{id}/errors")
+    public ResponseEntity<Resource> readImportErrors(@PathVariable("id") String id) {
+        if (importService.get(id).isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        Optional<Path> report = importService.getErrorReport(id);
+
+        return report.<ResponseEntity<Resource>>map(path -> ResponseEntity.ok()
+                        .contentType(CSV)
+                        .body(new FileSystemResource(path)))
+                .orElse(new ResponseEntity<>(HttpStatus.CONFLICT));
+    }
+}
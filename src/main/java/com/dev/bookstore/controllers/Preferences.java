@@ -0,0 +1,21 @@
+package com.dev.bookstore.controllers;
+
+import java.util.Arrays;
+
+final class Preferences {
+
+    static final String PREFER = "Prefer";
+
+    static final String PREFERENCE_APPLIED = "Preference-Applied";
+
+    static final String RETURN_MINIMAL = "return=minimal";
+
+    private Preferences() {
+    }
+
+    static boolean returnMinimal(String prefer) {
+        return prefer != null && Arrays.stream(prefer.split(","))
+                .map(preference -> preference.split(";", 2)[0].trim())
+                .anyMatch(RETURN_MINIMAL::equalsIgnoreCase);
+    }
+}
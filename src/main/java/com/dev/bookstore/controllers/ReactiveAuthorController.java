@@ -0,0 +1,40 @@
+package com.dev.bookstore.controllers;
+
+import com.dev.bookstore.domain.dto.AuthorDto;
+import com.dev.bookstore.mappers.impl.AuthorMapper;
+import com.dev.bookstore.services.ReactiveAuthorService;
+import jakarta.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping(path = "/reactive/authors")
+@RequiredArgsConstructor
+public class ReactiveAuthorController {
+
+    private final ReactiveAuthorService reactiveAuthorService;
+
+    private final AuthorMapper authorMapper;
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<AuthorDto> streamAuthors(
+            @Nullable @RequestParam("after") Long after,
+            @Nullable @RequestParam("limit") Integer limit
+    ) {
+        Integer pageSize = limit != null ? Math.max(limit, 1) : null;
+
+        return reactiveAuthorService.list(after, pageSize)
+                .map(authorMapper::toDto);
+    }
+
+    @GetMapping(path = "/{id}")
+    public Mono<ResponseEntity<AuthorDto>> readOneAuthor(@PathVariable("id") Long id) {
+        return reactiveAuthorService.get(id)
+                .map(author -> ResponseEntity.ok(authorMapper.toDto(author)))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
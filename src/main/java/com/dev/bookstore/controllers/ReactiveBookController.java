@@ -0,0 +1,41 @@
+package com.dev.bookstore.controllers;
+
+import com.dev.bookstore.domain.dto.BookSummaryDto;
+import com.dev.bookstore.mappers.impl.BookMapper;
+import com.dev.bookstore.services.ReactiveBookService;
+import jakarta.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping(path = "/reactive/books")
+@RequiredArgsConstructor
+public class ReactiveBookController {
+
+    private final ReactiveBookService reactiveBookService;
+
+    private final BookMapper bookMapper;
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BookSummaryDto> streamBooks(
+            @Nullable @RequestParam("author") Long authorId,
+            @Nullable @RequestParam("after") String after,
+            @Nullable @RequestParam("limit") Integer limit
+    ) {
+        Integer pageSize = limit != null ? Math.max(limit, 1) : null;
+
+        return reactiveBookService.list(authorId, after, pageSize)
+                .map(bookMapper::toBookSummaryDto);
+    }
+
+    @GetMapping(path = "/{isbn}")
+    public Mono<ResponseEntity<BookSummaryDto>> readOneBook(@PathVariable("isbn") String isbn) {
+        return reactiveBookService.get(isbn)
+                .map(book -> ResponseEntity.ok(bookMapper.toBookSummaryDto(book)))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
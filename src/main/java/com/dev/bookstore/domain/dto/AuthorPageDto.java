@@ -0,0 +1,21 @@
+package com.dev.bookstore.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AuthorPageDto {
+    private Long id;
+    private String name;
+    private Integer age;
+    private String description;
+    private String image;
+    private Long bookCount;
+}
@@ -0,0 +1,25 @@
+package com.dev.bookstore.domain.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "author_book_counts")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AuthorBookCountEntity {
+    @Id
+    @Column(name = "author_id")
+    private Long authorId;
+
+    @Column(name = "book_count", nullable = false)
+    private long bookCount;
+}
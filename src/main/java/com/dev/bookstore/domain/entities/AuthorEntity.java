@@ -1,23 +1,35 @@
 package com.dev.bookstore.domain.entities;
 
+import com.dev.bookstore.config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.AUTHORS_REGION)
 @Table(name = "authors")
-@Data
+@Getter
+@Setter
+@ToString
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
 public class AuthorEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "authors_seq")
+    @SequenceGenerator(name = "authors_seq", sequenceName = "authors_seq", allocationSize = 50)
     private Long id;
     private String name;
     private Integer age;
@@ -26,6 +38,36 @@ public class AuthorEntity {
     private String description;
     private String image;
 
-    @OneToMany(mappedBy = "author", cascade = CascadeType.ALL)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    @OneToMany(mappedBy = "author", fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @Builder.Default
     private List<BookEntity> books = new ArrayList<>();
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || persistentClass(this) != persistentClass(other)) {
+            return false;
+        }
+
+        Long id = getId();
+        return id != null && id.equals(((AuthorEntity) other).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return persistentClass(this).hashCode();
+    }
+
+    private static Class<?> persistentClass(Object entity) {
+        LazyInitializer initializer = HibernateProxy.extractLazyInitializer(entity);
+        return initializer != null ? initializer.getPersistentClass() : entity.getClass();
+    }
 }
@@ -1,14 +1,25 @@
 package com.dev.bookstore.domain.entities;
 
+import com.dev.bookstore.config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
 
 @Entity
-@Table(name = "books")
-@Data
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.BOOKS_REGION)
+@Table(name = "books", indexes = @Index(name = "idx_books_author_isbn", columnList = "author_id, isbn"))
+@Getter
+@Setter
+@ToString
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
@@ -21,7 +32,36 @@ public class BookEntity {
     private String description;
     private String image;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToOne
     @JoinColumn(name = "author_id")
+    @ToString.Exclude
     private AuthorEntity author;
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || persistentClass(this) != persistentClass(other)) {
+            return false;
+        }
+
+        String isbn = getIsbn();
+        return isbn != null && isbn.equals(((BookEntity) other).getIsbn());
+    }
+
+    @Override
+    public int hashCode() {
+        return persistentClass(this).hashCode();
+    }
+
+    private static Class<?> persistentClass(Object entity) {
+        LazyInitializer initializer = HibernateProxy.extractLazyInitializer(entity);
+        return initializer != null ? initializer.getPersistentClass() : entity.getClass();
+    }
 }
@@ -0,0 +1,30 @@
+package com.dev.bookstore.domain.events;
+
+import com.dev.bookstore.domain.entities.AuthorEntity;
+import lombok.Value;
+
+@Value
+public class AuthorChangedEvent {
+
+    Long authorId;
+
+    AuthorEntity author;
+
+    boolean partial;
+
+    public static AuthorChangedEvent saved(AuthorEntity author) {
+        return new AuthorChangedEvent(author.getId(), author, false);
+    }
+
+    public static AuthorChangedEvent patched(AuthorEntity patch) {
+        return new AuthorChangedEvent(patch.getId(), patch, true);
+    }
+
+    public static AuthorChangedEvent deleted(Long authorId) {
+        return new AuthorChangedEvent(authorId, null, false);
+    }
+
+    public boolean isDeleted() {
+        return author == null;
+    }
+}
@@ -0,0 +1,37 @@
+package com.dev.bookstore.domain.events;
+
+import com.dev.bookstore.domain.entities.BookEntity;
+import lombok.Value;
+
+import java.util.Collection;
+import java.util.List;
+
+@Value
+public class BookChangedEvent {
+
+    List<BookEntity> savedBooks;
+
+    List<BookEntity> patchedBooks;
+
+    List<String> deletedIsbns;
+
+    public static BookChangedEvent saved(BookEntity book) {
+        return new BookChangedEvent(List.of(book), List.of(), List.of());
+    }
+
+    public static BookChangedEvent saved(Collection<BookEntity> books) {
+        return new BookChangedEvent(List.copyOf(books), List.of(), List.of());
+    }
+
+    public static BookChangedEvent patched(BookEntity patch) {
+        return new BookChangedEvent(List.of(), List.of(patch), List.of());
+    }
+
+    public static BookChangedEvent deleted(String isbn) {
+        return new BookChangedEvent(List.of(), List.of(), List.of(isbn));
+    }
+
+    public static BookChangedEvent deleted(Collection<String> isbns) {
+        return new BookChangedEvent(List.of(), List.of(), List.copyOf(isbns));
+    }
+}
@@ -0,0 +1,19 @@
+package com.dev.bookstore.domain.projections;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthorPageProjection {
+    private Long id;
+    private String name;
+    private Integer age;
+    private String description;
+    private String image;
+    private Long bookCount;
+}
@@ -0,0 +1,15 @@
+package com.dev.bookstore.domain.projections;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthorSummaryProjection {
+    private Long id;
+    private String name;
+    private String image;
+    private Long version;
+}
@@ -0,0 +1,13 @@
+package com.dev.bookstore.domain.projections;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookAuthorProjection {
+    private String isbn;
+    private Long authorId;
+}
@@ -0,0 +1,20 @@
+package com.dev.bookstore.domain.projections;
+
+import com.dev.bookstore.domain.dto.BookSummaryDto;
+import lombok.Value;
+
+@Value
+public class BookSummaryEntry {
+
+    BookSummaryDto summary;
+
+    long version;
+
+    Long authorId;
+
+    long authorVersion;
+
+    public String getIsbn() {
+        return summary.getIsbn();
+    }
+}
@@ -0,0 +1,20 @@
+package com.dev.bookstore.domain.projections;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookSummaryProjection {
+    private String isbn;
+    private String title;
+    private String description;
+    private String image;
+    private Long version;
+    private Long authorId;
+    private String authorName;
+    private String authorImage;
+    private Long authorVersion;
+}
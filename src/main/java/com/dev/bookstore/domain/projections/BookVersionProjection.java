@@ -0,0 +1,14 @@
+package com.dev.bookstore.domain.projections;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookVersionProjection {
+    private String isbn;
+    private Long authorId;
+    private Long version;
+}
@@ -0,0 +1,28 @@
+package com.dev.bookstore.domain.requests;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+@Getter
+@RequiredArgsConstructor
+public enum AuthorField {
+    ID("id", true),
+    NAME("name", true),
+    AGE("age", true),
+    DESCRIPTION("description", false),
+    IMAGE("image", false),
+    BOOK_COUNT("bookCount", false);
+
+    private final String property;
+
+    private final boolean sortable;
+
+    public static AuthorField fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(field -> field.property.equals(property))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown author field: " + property));
+    }
+}
@@ -0,0 +1,13 @@
+package com.dev.bookstore.domain.requests;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum CatalogFileFormat {
+    CSV("csv"),
+    JSONL("jsonl");
+
+    private final String extension;
+}
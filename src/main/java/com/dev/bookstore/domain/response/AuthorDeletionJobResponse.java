@@ -0,0 +1,22 @@
+package com.dev.bookstore.domain.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthorDeletionJobResponse {
+    private String id;
+    private Long authorId;
+    private JobStatus status;
+    private long booksDeleted;
+    private String error;
+    private Instant createdAt;
+    private Instant completedAt;
+}
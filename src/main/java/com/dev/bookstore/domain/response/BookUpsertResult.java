@@ -0,0 +1,16 @@
+package com.dev.bookstore.domain.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookUpsertResult {
+    private String isbn;
+    private BookUpsertStatus status;
+    private String error;
+}
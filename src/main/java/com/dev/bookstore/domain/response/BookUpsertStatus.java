@@ -0,0 +1,7 @@
+package com.dev.bookstore.domain.response;
+
+public enum BookUpsertStatus {
+    CREATED,
+    UPDATED,
+    FAILED
+}
@@ -0,0 +1,25 @@
+package com.dev.bookstore.domain.response;
+
+import com.dev.bookstore.domain.requests.CatalogFileFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportJobResponse {
+    private String id;
+    private CatalogFileFormat format;
+    private JobStatus status;
+    private long rows;
+    private long bytes;
+    private String fileName;
+    private String error;
+    private Instant createdAt;
+    private Instant completedAt;
+}
@@ -0,0 +1,29 @@
+package com.dev.bookstore.domain.response;
+
+import com.dev.bookstore.domain.requests.CatalogFileFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobResponse {
+    private String id;
+    private CatalogFileFormat format;
+    private JobStatus status;
+    private long bytesRead;
+    private long totalBytes;
+    private double progress;
+    private long rows;
+    private long created;
+    private long updated;
+    private long failed;
+    private String error;
+    private Instant createdAt;
+    private Instant completedAt;
+}
@@ -0,0 +1,8 @@
+package com.dev.bookstore.domain.response;
+
+public enum JobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -1,40 +1,86 @@
 package com.dev.bookstore.mappers.impl;
 
 import com.dev.bookstore.domain.dto.AuthorDto;
+import com.dev.bookstore.domain.dto.AuthorPageDto;
 import com.dev.bookstore.domain.dto.AuthorSummaryDto;
 import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.domain.projections.AuthorPageProjection;
 import com.dev.bookstore.domain.requests.AuthorSummary;
 import com.dev.bookstore.domain.requests.AuthorUpdateRequest;
 import com.dev.bookstore.mappers.Mapper;
-import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 public class AuthorMapper implements Mapper<AuthorEntity, AuthorDto> {
 
-    private final ModelMapper modelMapper;
-
     @Override
     public AuthorDto toDto(AuthorEntity entity) {
-        return modelMapper.map(entity, AuthorDto.class);
+        if (entity == null) return null;
+
+        return AuthorDto.builder()
+                .id(entity.getId())
+                .name(entity.getName())
+                .age(entity.getAge())
+                .description(entity.getDescription())
+                .image(entity.getImage())
+                .build();
     }
 
     @Override
     public AuthorEntity toEntity(AuthorDto dto) {
-        return modelMapper.map(dto, AuthorEntity.class);
+        if (dto == null) return null;
+
+        return AuthorEntity.builder()
+                .id(dto.getId())
+                .name(dto.getName())
+                .age(dto.getAge())
+                .description(dto.getDescription())
+                .image(dto.getImage())
+                .build();
     }
 
     public AuthorUpdateRequest toUpdateRequest(AuthorDto dto) {
-        return modelMapper.map(dto, AuthorUpdateRequest.class);
+        if (dto == null) return null;
+
+        return AuthorUpdateRequest.builder()
+                .id(dto.getId())
+                .name(dto.getName())
+                .age(dto.getAge())
+                .description(dto.getDescription())
+                .image(dto.getImage())
+                .build();
     }
 
     public AuthorSummary toAuthorSummary(AuthorSummaryDto authorSummaryDto) {
-        return modelMapper.map(authorSummaryDto, AuthorSummary.class);
+        if (authorSummaryDto == null) return null;
+
+        return AuthorSummary.builder()
+                .id(authorSummaryDto.getId())
+                .name(authorSummaryDto.getName())
+                .image(authorSummaryDto.getImage())
+                .build();
     }
 
     public AuthorSummaryDto toAuthorSummaryDto(AuthorEntity entity) {
-        return modelMapper.map(entity, AuthorSummaryDto.class);
+        if (entity == null) return null;
+
+        return AuthorSummaryDto.builder()
+                .id(entity.getId())
+                .name(entity.getName())
+                .image(entity.getImage())
+                .build();
+    }
+
+    public AuthorPageDto toAuthorPageDto(AuthorPageProjection projection) {
+        if (projection == null) return null;
+
+        return AuthorPageDto.builder()
+                .id(projection.getId())
+                .name(projection.getName())
+                .age(projection.getAge())
+                .description(projection.getDescription())
+                .image(projection.getImage())
+                .bookCount(projection.getBookCount())
+                .build();
     }
 }
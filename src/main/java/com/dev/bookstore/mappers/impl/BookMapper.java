@@ -6,30 +6,44 @@ import com.dev.bookstore.domain.dto.BookSummaryDto;
 import com.dev.bookstore.domain.dto.BookUpdateRequestDto;
 import com.dev.bookstore.domain.entities.AuthorEntity;
 import com.dev.bookstore.domain.entities.BookEntity;
+import com.dev.bookstore.domain.projections.BookSummaryProjection;
 import com.dev.bookstore.domain.requests.AuthorSummary;
 import com.dev.bookstore.domain.requests.BookSummary;
 import com.dev.bookstore.domain.requests.BookUpdateRequest;
 import com.dev.bookstore.mappers.Mapper;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class BookMapper implements Mapper<BookEntity, BookDto> {
 
-    private final ModelMapper modelMapper;
-
     private final AuthorMapper authorMapper;
 
     @Override
     public BookDto toDto(BookEntity entity) {
-        return modelMapper.map(entity, BookDto.class);
+        if (entity == null) return null;
+
+        return BookDto.builder()
+                .isbn(entity.getIsbn())
+                .title(entity.getTitle())
+                .description(entity.getDescription())
+                .image(entity.getImage())
+                .author(authorMapper.toDto(entity.getAuthor()))
+                .build();
     }
 
     @Override
     public BookEntity toEntity(BookDto dto) {
-        return modelMapper.map(dto, BookEntity.class);
+        if (dto == null) return null;
+
+        return BookEntity.builder()
+                .isbn(dto.getIsbn())
+                .title(dto.getTitle())
+                .description(dto.getDescription())
+                .image(dto.getImage())
+                .author(authorMapper.toEntity(dto.getAuthor()))
+                .build();
     }
 
     public BookEntity bookSummaryToBookEntity(BookSummary bookSummary, AuthorEntity author) {
@@ -66,7 +80,29 @@ public class BookMapper implements Mapper<BookEntity, BookDto> {
                 .build();
     }
 
+    public BookSummaryDto toBookSummaryDto(BookSummaryProjection projection) {
+        AuthorSummaryDto authorSummaryDto = projection.getAuthorId() == null ? null : AuthorSummaryDto.builder()
+                .id(projection.getAuthorId())
+                .name(projection.getAuthorName())
+                .image(projection.getAuthorImage())
+                .build();
+
+        return BookSummaryDto.builder()
+                .isbn(projection.getIsbn())
+                .title(projection.getTitle())
+                .description(projection.getDescription())
+                .image(projection.getImage())
+                .author(authorSummaryDto)
+                .build();
+    }
+
     public BookUpdateRequest toBookUpdateRequest(BookUpdateRequestDto bookUpdateRequestDto) {
-        return modelMapper.map(bookUpdateRequestDto, BookUpdateRequest.class);
+        if (bookUpdateRequestDto == null) return null;
+
+        return BookUpdateRequest.builder()
+                .title(bookUpdateRequestDto.getTitle())
+                .description(bookUpdateRequestDto.getDescription())
+                .image(bookUpdateRequestDto.getImage())
+                .build();
     }
 }
@@ -0,0 +1,66 @@
+package com.dev.bookstore.repositories;
+
+import com.dev.bookstore.domain.entities.AuthorBookCountEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface AuthorBookCountRepository extends JpaRepository<AuthorBookCountEntity, Long>,
+        BatchInsertRepository<AuthorBookCountEntity> {
+
+    @Query("select c.bookCount from AuthorBookCountEntity c where c.authorId = :authorId")
+    Optional<Long> findBookCountByAuthorId(@Param("authorId") Long authorId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "author_book_counts"))
+    @Query(nativeQuery = true, value = """
+            insert into author_book_counts (author_id, book_count)
+            values (:authorId, :delta)
+            on duplicate key update book_count = book_count + :delta
+            """)
+    int increment(@Param("authorId") Long authorId, @Param("delta") long delta);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "author_book_counts"))
+    @Query(nativeQuery = true, value = """
+            insert into author_book_counts (author_id, book_count)
+            select a.id, 1 from authors a
+            where a.id = :authorId
+              and not exists (select 1 from books b where b.isbn = :isbn and b.author_id = a.id)
+            union all
+            select b.author_id, 0 from books b
+            where b.isbn = :isbn and b.author_id <> :authorId
+            on duplicate key update book_count = book_count + case when author_id = :authorId then 1 else -1 end
+            """)
+    int assignBook(@Param("isbn") String isbn, @Param("authorId") Long authorId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "author_book_counts"))
+    @Query(nativeQuery = true, value = """
+            update author_book_counts
+            set book_count = book_count - 1
+            where author_id = (select b.author_id from books b where b.isbn = :isbn)
+            """)
+    int unassignBook(@Param("isbn") String isbn);
+
+    @Modifying
+    @Query("delete from AuthorBookCountEntity c where c.authorId = :authorId")
+    int deleteByAuthorId(@Param("authorId") Long authorId);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into author_book_counts (author_id, book_count)
+            select a.id, (select count(*) from books b where b.author_id = a.id)
+            from authors a
+            where not exists (select 1 from author_book_counts c where c.author_id = a.id)
+            """)
+    int insertMissing();
+}
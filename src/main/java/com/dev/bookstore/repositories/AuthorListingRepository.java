@@ -0,0 +1,12 @@
+package com.dev.bookstore.repositories;
+
+import com.dev.bookstore.domain.projections.AuthorPageProjection;
+import com.dev.bookstore.domain.requests.AuthorField;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface AuthorListingRepository {
+    List<AuthorPageProjection> findPage(Collection<AuthorField> fields, Sort sort, int offset, int limit);
+}
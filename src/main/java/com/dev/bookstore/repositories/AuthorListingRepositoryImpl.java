@@ -0,0 +1,83 @@
+package com.dev.bookstore.repositories;
+
+import com.dev.bookstore.domain.entities.AuthorBookCountEntity;
+import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.domain.projections.AuthorPageProjection;
+import com.dev.bookstore.domain.requests.AuthorField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.Collection;
+import java.util.List;
+
+public class AuthorListingRepositoryImpl implements AuthorListingRepository {
+
+    private final EntityManager entityManager;
+
+    public AuthorListingRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<AuthorPageProjection> findPage(Collection<AuthorField> fields, Sort sort, int offset, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<AuthorEntity> author = query.from(AuthorEntity.class);
+
+        query.multiselect(fields.stream()
+                .<Selection<?>>map(field -> select(field, query, author, builder).alias(field.getProperty()))
+                .toList());
+        query.orderBy(QueryUtils.toOrders(sort, author, builder));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(tuple -> toProjection(fields, tuple))
+                .toList();
+    }
+
+    private static AuthorPageProjection toProjection(Collection<AuthorField> fields, Tuple tuple) {
+        AuthorPageProjection.AuthorPageProjectionBuilder row = AuthorPageProjection.builder();
+
+        for (AuthorField field : fields) {
+            switch (field) {
+                case ID -> row.id(tuple.get(field.getProperty(), Long.class));
+                case NAME -> row.name(tuple.get(field.getProperty(), String.class));
+                case AGE -> row.age(tuple.get(field.getProperty(), Integer.class));
+                case DESCRIPTION -> row.description(tuple.get(field.getProperty(), String.class));
+                case IMAGE -> row.image(tuple.get(field.getProperty(), String.class));
+                case BOOK_COUNT -> row.bookCount(tuple.get(field.getProperty(), Long.class));
+            }
+        }
+
+        return row.build();
+    }
+
+    private static Expression<?> select(
+            AuthorField field,
+            CriteriaQuery<Tuple> query,
+            Root<AuthorEntity> author,
+            CriteriaBuilder builder
+    ) {
+        if (field != AuthorField.BOOK_COUNT) {
+            return author.get(field.getProperty());
+        }
+
+        Subquery<Long> bookCount = query.subquery(Long.class);
+        Root<AuthorBookCountEntity> counter = bookCount.from(AuthorBookCountEntity.class);
+        bookCount.select(counter.get("bookCount"))
+                .where(builder.equal(counter.get("authorId"), author.get("id")));
+
+        return builder.coalesce(bookCount, 0L);
+    }
+}
@@ -0,0 +1,7 @@
+package com.dev.bookstore.repositories;
+
+import com.dev.bookstore.domain.requests.AuthorUpdateRequest;
+
+public interface AuthorPatchRepository {
+    int patch(Long id, AuthorUpdateRequest request, Long expectedVersion);
+}
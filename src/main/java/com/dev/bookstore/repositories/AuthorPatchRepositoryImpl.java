@@ -0,0 +1,34 @@
+package com.dev.bookstore.repositories;
+
+import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.domain.requests.AuthorUpdateRequest;
+import jakarta.persistence.EntityManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class AuthorPatchRepositoryImpl implements AuthorPatchRepository {
+
+    private final EntityManager entityManager;
+
+    public AuthorPatchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public int patch(Long id, AuthorUpdateRequest request, Long expectedVersion) {
+        Map<String, Object> columns = new LinkedHashMap<>();
+
+        Optional.ofNullable(request.getName()).ifPresent(name -> columns.put("name", name));
+        Optional.ofNullable(request.getAge()).ifPresent(age -> columns.put("age", age));
+        Optional.ofNullable(request.getDescription()).ifPresent(description -> columns.put("description", description));
+        Optional.ofNullable(request.getImage()).ifPresent(image -> columns.put("image", image));
+
+        return NativeWrites.patch(
+                NativeWrites.prepare(entityManager, AuthorEntity.class, List.of(id)),
+                "authors", "id", id, columns, expectedVersion
+        );
+    }
+}
@@ -1,9 +1,42 @@
 package com.dev.bookstore.repositories;
 
 import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.domain.projections.AuthorSummaryProjection;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface AuthorRepository extends JpaRepository<AuthorEntity, Long> {
+public interface AuthorRepository extends JpaRepository<AuthorEntity, Long>, BatchInsertRepository<AuthorEntity>,
+        AuthorListingRepository, AuthorPatchRepository {
+
+    @Query("select a.version from AuthorEntity a where a.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("""
+            select new com.dev.bookstore.domain.projections.AuthorSummaryProjection(a.id, a.name, a.image, a.version)
+            from AuthorEntity a
+            where a.id > :after
+            order by a.id
+            """)
+    List<AuthorSummaryProjection> findSummaries(@Param("after") long after, Limit limit);
+
+    @Query("""
+            select new com.dev.bookstore.domain.projections.AuthorSummaryProjection(a.id, a.name, a.image, a.version)
+            from AuthorEntity a
+            where a.name in :names
+            order by a.id
+            """)
+    List<AuthorSummaryProjection> findSummariesByNameIn(@Param("names") Collection<String> names);
+
+    @Modifying
+    @Query("delete from AuthorEntity a where a.id = :id")
+    int deleteAuthorById(@Param("id") Long id);
 }
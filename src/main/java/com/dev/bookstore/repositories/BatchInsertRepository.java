@@ -0,0 +1,7 @@
+package com.dev.bookstore.repositories;
+
+import java.util.Collection;
+
+public interface BatchInsertRepository<T> {
+    void persistAll(Collection<T> entities);
+}
@@ -0,0 +1,41 @@
+package com.dev.bookstore.repositories;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class BatchInsertRepositoryImpl<T> implements BatchInsertRepository<T> {
+
+    private final EntityManager entityManager;
+
+    private final int batchSize;
+
+    public BatchInsertRepositoryImpl(
+            EntityManager entityManager,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize
+    ) {
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void persistAll(Collection<T> entities) {
+        List<T> pending = new ArrayList<>(batchSize);
+
+        for (T entity : entities) {
+            entityManager.persist(entity);
+            pending.add(entity);
+
+            if (pending.size() == batchSize) {
+                entityManager.flush();
+                pending.forEach(entityManager::detach);
+                pending.clear();
+            }
+        }
+
+        entityManager.flush();
+    }
+}
@@ -0,0 +1,7 @@
+package com.dev.bookstore.repositories;
+
+import com.dev.bookstore.domain.requests.BookUpdateRequest;
+
+public interface BookPatchRepository {
+    int patch(String isbn, BookUpdateRequest request, Long expectedVersion);
+}
@@ -0,0 +1,33 @@
+package com.dev.bookstore.repositories;
+
+import com.dev.bookstore.domain.entities.BookEntity;
+import com.dev.bookstore.domain.requests.BookUpdateRequest;
+import jakarta.persistence.EntityManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class BookPatchRepositoryImpl implements BookPatchRepository {
+
+    private final EntityManager entityManager;
+
+    public BookPatchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public int patch(String isbn, BookUpdateRequest request, Long expectedVersion) {
+        Map<String, Object> columns = new LinkedHashMap<>();
+
+        Optional.ofNullable(request.getTitle()).ifPresent(title -> columns.put("title", title));
+        Optional.ofNullable(request.getDescription()).ifPresent(description -> columns.put("description", description));
+        Optional.ofNullable(request.getImage()).ifPresent(image -> columns.put("image", image));
+
+        return NativeWrites.patch(
+                NativeWrites.prepare(entityManager, BookEntity.class, List.of(isbn)),
+                "books", "isbn", isbn, columns, expectedVersion
+        );
+    }
+}
@@ -1,12 +1,89 @@
 package com.dev.bookstore.repositories;
 
 import com.dev.bookstore.domain.entities.BookEntity;
+import com.dev.bookstore.domain.projections.BookAuthorProjection;
+import com.dev.bookstore.domain.projections.BookRowProjection;
+import com.dev.bookstore.domain.projections.BookSummaryProjection;
+import com.dev.bookstore.domain.projections.BookVersionProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface BookRepository extends JpaRepository<BookEntity, String> {
-    List<BookEntity> findByAuthorId(Long authorId);
+public interface BookRepository extends JpaRepository<BookEntity, String>, BatchInsertRepository<BookEntity>,
+        BookUpsertRepository, BookPatchRepository {
+
+    @Query("select b.version from BookEntity b where b.isbn = :isbn")
+    Optional<Long> findVersionById(@Param("isbn") String isbn);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    @Query("""
+            select new com.dev.bookstore.domain.projections.BookSummaryProjection(
+                b.isbn, b.title, b.description, b.image, b.version, a.id, a.name, a.image, a.version
+            )
+            from BookEntity b left join b.author a
+            where b.isbn > :after
+            order by b.isbn
+            """)
+    List<BookSummaryProjection> findSummaries(@Param("after") String after, Limit limit);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    @Query("""
+            select new com.dev.bookstore.domain.projections.BookSummaryProjection(
+                b.isbn, b.title, b.description, b.image, b.version, a.id, a.name, a.image, a.version
+            )
+            from BookEntity b join b.author a
+            where a.id = :authorId and b.isbn > :after
+            order by b.isbn
+            """)
+    List<BookSummaryProjection> findSummariesByAuthorId(
+            @Param("authorId") Long authorId,
+            @Param("after") String after,
+            Limit limit
+    );
+
+    @Query("""
+            select new com.dev.bookstore.domain.projections.BookRowProjection(
+                b.isbn, b.title, b.description, b.image, b.version, b.author.id
+            )
+            from BookEntity b
+            where b.isbn > :after
+            order by b.isbn
+            """)
+    List<BookRowProjection> findRows(@Param("after") String after, Limit limit);
+
+    @Query("""
+            select new com.dev.bookstore.domain.projections.BookAuthorProjection(b.isbn, b.author.id)
+            from BookEntity b
+            where b.isbn > :after
+            order by b.isbn
+            """)
+    List<BookAuthorProjection> findAuthorIds(@Param("after") String after, Limit limit);
+
+    @Query("""
+            select new com.dev.bookstore.domain.projections.BookVersionProjection(b.isbn, b.author.id, b.version)
+            from BookEntity b
+            where b.isbn in :isbns
+            """)
+    List<BookVersionProjection> findVersionsByIsbnIn(@Param("isbns") Collection<String> isbns);
+
+    @Query("select b.isbn from BookEntity b where b.author.id = :authorId order by b.isbn")
+    List<String> findIsbnsByAuthorId(@Param("authorId") Long authorId, Limit limit);
+
+    @Query("select b.isbn from BookEntity b where b.isbn in :isbns")
+    List<String> findIsbnsByIsbnIn(@Param("isbns") Collection<String> isbns);
+
+    @Modifying
+    @Query("delete from BookEntity b where b.author.id = :authorId and b.isbn in :isbns")
+    int deleteAllByAuthorIdAndIsbnIn(@Param("authorId") Long authorId, @Param("isbns") Collection<String> isbns);
 }
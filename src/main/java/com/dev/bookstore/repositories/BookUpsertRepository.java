@@ -0,0 +1,16 @@
+package com.dev.bookstore.repositories;
+
+import com.dev.bookstore.domain.entities.BookEntity;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface BookUpsertRepository {
+    void upsert(BookEntity book);
+
+    void upsertAll(Collection<BookEntity> books);
+
+    int deleteByIsbn(String isbn);
+
+    List<String> deleteAllByAuthorId(Long authorId);
+}
@@ -0,0 +1,185 @@
+package com.dev.bookstore.repositories;
+
+import com.dev.bookstore.domain.entities.BookEntity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class BookUpsertRepositoryImpl implements BookUpsertRepository {
+
+    private static final String MYSQL_UPSERT = """
+            insert into books (isbn, title, description, image, author_id, version)
+            values (?, ?, ?, ?, ?, 0)
+            on duplicate key update
+                title = ?, description = ?, image = ?, author_id = ?, version = version + 1
+            """;
+
+    private static final String MYSQL_SELECT_VERSION = "select version from books where isbn = ?";
+
+    private static final String H2_MERGE = """
+            merge into books b
+            using (select cast(? as varchar(255)) as isbn) s on b.isbn = s.isbn
+            when matched then update set
+                title = ?, description = ?, image = ?, author_id = ?, version = b.version + 1
+            when not matched then insert (isbn, title, description, image, author_id, version)
+                values (s.isbn, ?, ?, ?, ?, 0)
+            """;
+
+    private static final String H2_UPSERT = "select version from final table (" + H2_MERGE + ")";
+
+    private static final String DELETE = "delete from books where isbn = ?";
+
+    private static final String SELECT_ISBNS_BY_AUTHOR_FOR_UPDATE = "select isbn from books where author_id = ? for update";
+
+    private static final String DELETE_BY_AUTHOR = "delete from books where author_id = ?";
+
+    private final EntityManager entityManager;
+
+    public BookUpsertRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void upsert(BookEntity book) {
+        SessionImplementor session = prepare(List.of(book.getIsbn()));
+        boolean mySql = session.getJdbcServices().getDialect() instanceof MySQLDialect;
+
+        session.doWork(connection -> book.setVersion(mySql ? upsertMySql(connection, book) : upsertH2(connection, book)));
+    }
+
+    @Override
+    public void upsertAll(Collection<BookEntity> books) {
+        if (books.isEmpty()) {
+            return;
+        }
+
+        SessionImplementor session = prepare(books.stream().map(BookEntity::getIsbn).toList());
+        String sql = session.getJdbcServices().getDialect() instanceof MySQLDialect ? MYSQL_UPSERT : H2_MERGE;
+
+        session.doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (BookEntity book : books) {
+                    statement.setString(1, book.getIsbn());
+                    bindColumns(statement, 1, book);
+                    bindColumns(statement, 5, book);
+                    statement.addBatch();
+                }
+
+                statement.executeBatch();
+            }
+        });
+    }
+
+    @Override
+    public int deleteByIsbn(String isbn) {
+        return prepare(List.of(isbn)).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(DELETE)) {
+                statement.setString(1, isbn);
+
+                return statement.executeUpdate();
+            }
+        });
+    }
+
+    @Override
+    public List<String> deleteAllByAuthorId(Long authorId) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        session.flush();
+
+        List<String> isbns = session.doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_ISBNS_BY_AUTHOR_FOR_UPDATE)) {
+                statement.setLong(1, authorId);
+
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    List<String> lockedIsbns = new ArrayList<>();
+
+                    while (resultSet.next()) {
+                        lockedIsbns.add(resultSet.getString(1));
+                    }
+
+                    return lockedIsbns;
+                }
+            }
+        });
+
+        if (isbns.isEmpty()) {
+            return isbns;
+        }
+
+        prepare(isbns).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(DELETE_BY_AUTHOR)) {
+                statement.setLong(1, authorId);
+                statement.executeUpdate();
+            }
+        });
+
+        return isbns;
+    }
+
+    private SessionImplementor prepare(Collection<String> isbns) {
+        Dialect dialect = entityManager.unwrap(SessionImplementor.class).getJdbcServices().getDialect();
+
+        if (!(dialect instanceof MySQLDialect) && !(dialect instanceof H2Dialect)) {
+            throw new UnsupportedOperationException("Native book writes are not supported for " + dialect);
+        }
+
+        return NativeWrites.prepare(entityManager, BookEntity.class, isbns);
+    }
+
+    private static long upsertMySql(Connection connection, BookEntity book) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(MYSQL_UPSERT)) {
+            statement.setString(1, book.getIsbn());
+            bindColumns(statement, 1, book);
+            bindColumns(statement, 5, book);
+
+            if (statement.executeUpdate() == 1) {
+                return 0;
+            }
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(MYSQL_SELECT_VERSION)) {
+            statement.setString(1, book.getIsbn());
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    private static long upsertH2(Connection connection, BookEntity book) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(H2_UPSERT)) {
+            statement.setString(1, book.getIsbn());
+            bindColumns(statement, 1, book);
+            bindColumns(statement, 5, book);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    private static void bindColumns(PreparedStatement statement, int offset, BookEntity book) throws SQLException {
+        statement.setString(offset + 1, book.getTitle());
+        statement.setString(offset + 2, book.getDescription());
+        statement.setString(offset + 3, book.getImage());
+
+        if (book.getAuthor() != null) {
+            statement.setLong(offset + 4, book.getAuthor().getId());
+        } else {
+            statement.setNull(offset + 4, Types.BIGINT);
+        }
+    }
+}
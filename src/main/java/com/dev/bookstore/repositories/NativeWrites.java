@@ -0,0 +1,67 @@
+package com.dev.bookstore.repositories;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.Map;
+
+final class NativeWrites {
+
+    private NativeWrites() {
+    }
+
+    static SessionImplementor prepare(EntityManager entityManager, Class<?> entityClass, Collection<?> ids) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+
+        session.flush();
+        ids.forEach(id -> entityManager.detach(entityManager.getReference(entityClass, id)));
+
+        CacheImplementor cache = session.getFactory().getCache();
+        String[] spaces = (String[]) session.getFactory()
+                .getMappingMetamodel()
+                .getEntityDescriptor(entityClass)
+                .getQuerySpaces();
+
+        cache.getTimestampsCache().preInvalidate(spaces, session);
+        ids.forEach(id -> cache.evictEntityData(entityClass, id));
+
+        session.getActionQueue().registerProcess((success, completedSession) -> {
+            ids.forEach(id -> cache.evictEntityData(entityClass, id));
+            cache.getTimestampsCache().invalidate(spaces, completedSession);
+        });
+
+        return session;
+    }
+
+    static int patch(SessionImplementor session, String table, String idColumn, Object id,
+                     Map<String, Object> columns, Long expectedVersion) {
+        StringBuilder sql = new StringBuilder("update ").append(table).append(" set ");
+        columns.keySet().forEach(column -> sql.append(column).append(" = ?, "));
+        sql.append("version = version + 1 where ").append(idColumn).append(" = ?");
+
+        if (expectedVersion != null) {
+            sql.append(" and version = ?");
+        }
+
+        return session.doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+                int index = 1;
+
+                for (Object value : columns.values()) {
+                    statement.setObject(index++, value);
+                }
+
+                statement.setObject(index++, id);
+
+                if (expectedVersion != null) {
+                    statement.setLong(index, expectedVersion);
+                }
+
+                return statement.executeUpdate();
+            }
+        });
+    }
+}
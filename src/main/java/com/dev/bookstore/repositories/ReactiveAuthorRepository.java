@@ -0,0 +1,51 @@
+package com.dev.bookstore.repositories;
+
+import com.dev.bookstore.domain.entities.AuthorEntity;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactiveAuthorRepository {
+
+    private static final String SELECT_AUTHORS = """
+            select a.id, a.name, a.age, a.description, a.image, a.version
+            from authors a
+            """;
+
+    private final DatabaseClient readDatabaseClient;
+
+    public Flux<AuthorEntity> findAll(long after, Integer limit) {
+        String sql = SELECT_AUTHORS + "where a.id > :after order by a.id" + (limit != null ? " limit :limit" : "");
+
+        DatabaseClient.GenericExecuteSpec query = readDatabaseClient.sql(sql).bind("after", after);
+
+        if (limit != null) {
+            query = query.bind("limit", limit);
+        }
+
+        return query.map(ReactiveAuthorRepository::toAuthor).all();
+    }
+
+    public Mono<AuthorEntity> findById(Long id) {
+        return readDatabaseClient.sql(SELECT_AUTHORS + "where a.id = :id")
+                .bind("id", id)
+                .map(ReactiveAuthorRepository::toAuthor)
+                .one();
+    }
+
+    private static AuthorEntity toAuthor(Readable row) {
+        return AuthorEntity.builder()
+                .id(row.get("id", Long.class))
+                .name(row.get("name", String.class))
+                .age(row.get("age", Integer.class))
+                .description(row.get("description", String.class))
+                .image(row.get("image", String.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.dev.bookstore.repositories;
+
+import com.dev.bookstore.domain.projections.BookSummaryProjection;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactiveBookRepository {
+
+    private static final String SELECT_SUMMARIES = """
+            select b.isbn, b.title, b.description, b.image, b.version,
+                   a.id as author_id, a.name as author_name, a.image as author_image, a.version as author_version
+            from books b
+            left join authors a on a.id = b.author_id
+            """;
+
+    private final DatabaseClient readDatabaseClient;
+
+    public Flux<BookSummaryProjection> findSummaries(Long authorId, String after, Integer limit) {
+        StringBuilder sql = new StringBuilder(SELECT_SUMMARIES).append("where b.isbn > :after ");
+
+        if (authorId != null) {
+            sql.append("and b.author_id = :authorId ");
+        }
+        sql.append("order by b.isbn");
+        if (limit != null) {
+            sql.append(" limit :limit");
+        }
+
+        DatabaseClient.GenericExecuteSpec query = readDatabaseClient.sql(sql.toString()).bind("after", after);
+
+        if (authorId != null) {
+            query = query.bind("authorId", authorId);
+        }
+        if (limit != null) {
+            query = query.bind("limit", limit);
+        }
+
+        return query.map(ReactiveBookRepository::toBookSummary).all();
+    }
+
+    public Mono<BookSummaryProjection> findSummaryByIsbn(String isbn) {
+        return readDatabaseClient.sql(SELECT_SUMMARIES + "where b.isbn = :isbn")
+                .bind("isbn", isbn)
+                .map(ReactiveBookRepository::toBookSummary)
+                .one();
+    }
+
+    private static BookSummaryProjection toBookSummary(Readable row) {
+        return new BookSummaryProjection(
+                row.get("isbn", String.class),
+                row.get("title", String.class),
+                row.get("description", String.class),
+                row.get("image", String.class),
+                row.get("version", Long.class),
+                row.get("author_id", Long.class),
+                row.get("author_name", String.class),
+                row.get("author_image", String.class),
+                row.get("author_version", Long.class)
+        );
+    }
+}
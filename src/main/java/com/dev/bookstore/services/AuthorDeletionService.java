@@ -0,0 +1,12 @@
+package com.dev.bookstore.services;
+
+import com.dev.bookstore.domain.response.AuthorDeletionJobResponse;
+
+import java.util.Optional;
+
+public interface AuthorDeletionService {
+
+    AuthorDeletionJobResponse start(Long authorId);
+
+    Optional<AuthorDeletionJobResponse> get(String id);
+}
@@ -0,0 +1,17 @@
+package com.dev.bookstore.services;
+
+import com.dev.bookstore.domain.projections.AuthorSummaryProjection;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+
+public interface AuthorIndex {
+
+    Optional<AuthorSummaryProjection> findAuthor(long authorId);
+
+    boolean containsAuthor(long authorId);
+
+    OptionalLong findAuthorId(String isbn);
+
+    void rebuild();
+}
@@ -1,21 +1,33 @@
 package com.dev.bookstore.services;
 
 import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.domain.projections.AuthorPageProjection;
+import com.dev.bookstore.domain.requests.AuthorField;
 import com.dev.bookstore.domain.requests.AuthorUpdateRequest;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
+import java.util.Set;
 
 public interface AuthorService {
 
     AuthorEntity create(AuthorEntity author);
 
+    List<AuthorEntity> createAll(List<AuthorEntity> authors);
+
     List<AuthorEntity> list();
 
+    List<AuthorPageProjection> listPage(Set<AuthorField> fields, Sort sort, int page, int size);
+
     AuthorEntity get(Long id);
 
+    Long getVersion(Long id);
+
     AuthorEntity fullUpdate(Long id, AuthorEntity author);
 
     AuthorEntity partialUpdate(Long id, AuthorUpdateRequest request);
 
+    long patch(Long id, AuthorUpdateRequest request, Long expectedVersion);
+
     void delete(Long id);
 }
@@ -0,0 +1,23 @@
+package com.dev.bookstore.services;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface BookCountService {
+
+    long getBookCount(Long authorId);
+
+    void register(Collection<Long> authorIds);
+
+    void adjust(Long authorId, long delta);
+
+    void adjust(Map<Long, Long> deltas);
+
+    void assignBook(String isbn, Long authorId);
+
+    void unassignBook(String isbn);
+
+    void remove(Long authorId);
+
+    int backfill();
+}
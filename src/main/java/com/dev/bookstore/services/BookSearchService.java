@@ -0,0 +1,12 @@
+package com.dev.bookstore.services;
+
+import com.dev.bookstore.domain.dto.BookSummaryDto;
+
+import java.util.List;
+
+public interface BookSearchService {
+
+    List<BookSummaryDto> search(String query, int limit);
+
+    void reindex();
+}
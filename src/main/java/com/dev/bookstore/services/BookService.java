@@ -1,9 +1,11 @@
 package com.dev.bookstore.services;
 
 import com.dev.bookstore.domain.entities.BookEntity;
+import com.dev.bookstore.domain.projections.BookSummaryProjection;
 import com.dev.bookstore.domain.requests.BookSummary;
 import com.dev.bookstore.domain.requests.BookUpdateRequest;
 import com.dev.bookstore.domain.response.BookResponse;
+import com.dev.bookstore.domain.response.BookUpsertResult;
 
 import java.util.List;
 
@@ -11,11 +13,19 @@ public interface BookService {
 
     BookResponse createUpdate(String isbn, BookSummary bookSummary);
 
-    List<BookEntity> list(Long authorId);
+    List<BookUpsertResult> createUpdateAll(List<BookSummary> bookSummaries);
+
+    List<BookSummaryProjection> list(Long authorId, String after, int limit);
 
     BookEntity get(String isbn);
 
     BookEntity partialUpdate(String isbn, BookUpdateRequest bookUpdateRequest);
 
+    long patch(String isbn, BookUpdateRequest bookUpdateRequest, Long expectedVersion);
+
     void delete(String isbn);
+
+    int deleteByAuthorId(Long authorId, int limit);
+
+    int deleteAllByAuthorId(Long authorId);
 }
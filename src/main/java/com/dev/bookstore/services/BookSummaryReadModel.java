@@ -0,0 +1,15 @@
+package com.dev.bookstore.services;
+
+import com.dev.bookstore.domain.projections.BookSummaryEntry;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface BookSummaryReadModel {
+
+    List<BookSummaryEntry> list(Long authorId, String after, int limit);
+
+    Optional<BookSummaryEntry> get(String isbn);
+
+    void rebuild();
+}
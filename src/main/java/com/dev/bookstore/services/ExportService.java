@@ -0,0 +1,16 @@
+package com.dev.bookstore.services;
+
+import com.dev.bookstore.domain.requests.CatalogFileFormat;
+import com.dev.bookstore.domain.response.ExportJobResponse;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+public interface ExportService {
+
+    ExportJobResponse start(CatalogFileFormat format);
+
+    Optional<ExportJobResponse> get(String id);
+
+    Optional<Path> getFile(String id);
+}
@@ -0,0 +1,18 @@
+package com.dev.bookstore.services;
+
+import com.dev.bookstore.domain.requests.CatalogFileFormat;
+import com.dev.bookstore.domain.response.ImportJobResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+public interface ImportService {
+
+    ImportJobResponse start(CatalogFileFormat format, InputStream content) throws IOException;
+
+    Optional<ImportJobResponse> get(String id);
+
+    Optional<Path> getErrorReport(String id);
+}
@@ -0,0 +1,12 @@
+package com.dev.bookstore.services;
+
+import com.dev.bookstore.domain.entities.AuthorEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveAuthorService {
+
+    Flux<AuthorEntity> list(Long after, Integer limit);
+
+    Mono<AuthorEntity> get(Long id);
+}
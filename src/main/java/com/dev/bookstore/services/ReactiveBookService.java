@@ -0,0 +1,12 @@
+package com.dev.bookstore.services;
+
+import com.dev.bookstore.domain.projections.BookSummaryProjection;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveBookService {
+
+    Flux<BookSummaryProjection> list(Long authorId, String after, Integer limit);
+
+    Mono<BookSummaryProjection> get(String isbn);
+}
@@ -0,0 +1,11 @@
+package com.dev.bookstore.services;
+
+import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.domain.projections.BookSummaryEntry;
+
+public interface ResponseBodyCache {
+
+    byte[] getBook(BookSummaryEntry book);
+
+    byte[] getAuthor(AuthorEntity author);
+}
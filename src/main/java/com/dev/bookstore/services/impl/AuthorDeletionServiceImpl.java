@@ -0,0 +1,94 @@
+package com.dev.bookstore.services.impl;
+
+import com.dev.bookstore.config.AuthorDeletionProperties;
+import com.dev.bookstore.domain.response.AuthorDeletionJobResponse;
+import com.dev.bookstore.services.AuthorDeletionService;
+import com.dev.bookstore.services.AuthorService;
+import com.dev.bookstore.services.BookService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+@Slf4j
+@Service
+public class AuthorDeletionServiceImpl implements AuthorDeletionService {
+
+    private final AuthorService authorService;
+
+    private final BookService bookService;
+
+    private final AuthorDeletionProperties properties;
+
+    private final JobRunner<DeletionJob> jobs;
+
+    public AuthorDeletionServiceImpl(
+            AuthorService authorService,
+            BookService bookService,
+            AuthorDeletionProperties properties
+    ) {
+        this.authorService = authorService;
+        this.bookService = bookService;
+        this.properties = properties;
+        this.jobs = new JobRunner<>("author-deletion", properties.getMaxConcurrentJobs(), properties.getMaxQueuedJobs());
+    }
+
+    @PreDestroy
+    public void close() {
+        jobs.close();
+    }
+
+    @Override
+    public AuthorDeletionJobResponse start(Long authorId) {
+        return jobs.submit(new DeletionJob(authorId), this::run).toResponse();
+    }
+
+    @Override
+    public Optional<AuthorDeletionJobResponse> get(String id) {
+        return jobs.get(id).map(DeletionJob::toResponse);
+    }
+
+    @Scheduled(fixedDelayString = "${bookstore.author-deletion.cleanup-interval:10m}")
+    public void cleanup() {
+        jobs.cleanup(properties.getRetention());
+    }
+
+    private void run(DeletionJob job) {
+        int chunkSize = properties.getChunkSize();
+        int deleted;
+
+        do {
+            deleted = bookService.deleteByAuthorId(job.authorId, chunkSize);
+            job.booksDeleted += deleted;
+        } while (deleted == chunkSize && !Thread.currentThread().isInterrupted());
+
+        authorService.delete(job.authorId);
+
+        log.info("Deleted author {} and {} books", job.authorId, job.booksDeleted);
+    }
+
+    private static final class DeletionJob extends JobRunner.Job {
+
+        private final Long authorId;
+
+        private volatile long booksDeleted;
+
+        private DeletionJob(Long authorId) {
+            this.authorId = authorId;
+        }
+
+        private AuthorDeletionJobResponse toResponse() {
+            return AuthorDeletionJobResponse.builder()
+                    .id(id)
+                    .authorId(authorId)
+                    .status(status)
+                    .booksDeleted(booksDeleted)
+                    .error(error)
+                    .createdAt(createdAt)
+                    .completedAt(completedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,392 @@
+package com.dev.bookstore.services.impl;
+
+import com.dev.bookstore.config.AuthorIndexProperties;
+import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.domain.entities.BookEntity;
+import com.dev.bookstore.domain.events.AuthorChangedEvent;
+import com.dev.bookstore.domain.events.BookChangedEvent;
+import com.dev.bookstore.domain.projections.AuthorSummaryProjection;
+import com.dev.bookstore.domain.projections.BookAuthorProjection;
+import com.dev.bookstore.repositories.AuthorRepository;
+import com.dev.bookstore.repositories.BookRepository;
+import com.dev.bookstore.services.AuthorIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.locks.StampedLock;
+
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "bookstore.author-index", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class AuthorIndexImpl implements AuthorIndex, MeterBinder {
+
+    private static final long MISSING = -1L;
+
+    private static final int MAX_ISBN_LENGTH = 17;
+
+    private final AuthorRepository authorRepository;
+
+    private final BookRepository bookRepository;
+
+    private final AuthorIndexProperties properties;
+
+    private final StampedLock lock = new StampedLock();
+
+    private volatile Tables tables;
+
+    @PostConstruct
+    public void load() {
+        rebuild();
+    }
+
+    @Override
+    public Optional<AuthorSummaryProjection> findAuthor(long authorId) {
+        long stamp = lock.readLock();
+        try {
+            return Optional.ofNullable(tables.readAuthor(authorId));
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public boolean containsAuthor(long authorId) {
+        long stamp = lock.readLock();
+        try {
+            return tables.authorOffsets.containsKey(authorId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public OptionalLong findAuthorId(String isbn) {
+        long key = isbnKey(isbn);
+
+        if (key == 0) {
+            return OptionalLong.empty();
+        }
+
+        long stamp = lock.readLock();
+        try {
+            long authorId = tables.bookAuthors.get(key, MISSING);
+            return authorId != MISSING ? OptionalLong.of(authorId) : OptionalLong.empty();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public synchronized void rebuild() {
+        int batchSize = properties.getRebuildBatchSize();
+        Tables rebuilt = new Tables(properties.getExpectedAuthors(), properties.getExpectedBooks());
+
+        long afterId = 0;
+        List<AuthorSummaryProjection> authors;
+
+        do {
+            authors = authorRepository.findSummaries(afterId, Limit.of(batchSize));
+            authors.forEach(rebuilt::putAuthor);
+
+            if (!authors.isEmpty()) {
+                afterId = authors.get(authors.size() - 1).getId();
+            }
+        } while (authors.size() == batchSize);
+
+        String afterIsbn = "";
+        List<BookAuthorProjection> books;
+
+        do {
+            books = bookRepository.findAuthorIds(afterIsbn, Limit.of(batchSize));
+            books.forEach(book -> rebuilt.putBook(book.getIsbn(), book.getAuthorId()));
+
+            if (!books.isEmpty()) {
+                afterIsbn = books.get(books.size() - 1).getIsbn();
+            }
+        } while (books.size() == batchSize);
+
+        long stamp = lock.writeLock();
+        try {
+            tables = rebuilt;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+
+        log.info("Indexed {} authors and {} books off-heap in {} bytes",
+                rebuilt.authorOffsets.size(), rebuilt.bookAuthors.size(), rebuilt.offHeapBytes());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onAuthorChanged(AuthorChangedEvent event) {
+        long stamp = lock.writeLock();
+        try {
+            if (event.isDeleted()) {
+                tables.removeAuthor(event.getAuthorId());
+            } else if (event.isPartial()) {
+                AuthorEntity patch = event.getAuthor();
+                AuthorSummaryProjection existing = tables.readAuthor(event.getAuthorId());
+
+                if (existing != null) {
+                    tables.putAuthor(new AuthorSummaryProjection(
+                            existing.getId(),
+                            Optional.ofNullable(patch.getName()).orElse(existing.getName()),
+                            Optional.ofNullable(patch.getImage()).orElse(existing.getImage()),
+                            patch.getVersion()
+                    ));
+                }
+            } else {
+                AuthorEntity author = event.getAuthor();
+                tables.putAuthor(new AuthorSummaryProjection(
+                        author.getId(), author.getName(), author.getImage(), author.getVersion()
+                ));
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onBookChanged(BookChangedEvent event) {
+        long stamp = lock.writeLock();
+        try {
+            for (BookEntity book : event.getSavedBooks()) {
+                tables.putBook(book.getIsbn(), book.getAuthor() != null ? book.getAuthor().getId() : null);
+            }
+
+            event.getDeletedIsbns().forEach(tables::removeBook);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("bookstore.author.index.entries", this, index -> index.tables.authorOffsets.size())
+                .tag("map", "authors")
+                .register(registry);
+        Gauge.builder("bookstore.author.index.entries", this, index -> index.tables.bookAuthors.size())
+                .tag("map", "books")
+                .register(registry);
+        Gauge.builder("bookstore.author.index.offheap", this, index -> index.tables.offHeapBytes())
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    static long isbnKey(String isbn) {
+        if (isbn == null || isbn.isEmpty() || isbn.length() > MAX_ISBN_LENGTH) {
+            return 0;
+        }
+
+        long key = 0;
+
+        for (int i = 0; i < isbn.length(); i++) {
+            char c = isbn.charAt(i);
+            int digit;
+
+            if (c >= '0' && c <= '9') {
+                digit = c - '0' + 1;
+            } else if (c == 'X') {
+                digit = 11;
+            } else if (c == '-') {
+                digit = 12;
+            } else {
+                return 0;
+            }
+
+            key = key * 13 + digit;
+        }
+
+        return key;
+    }
+
+    private static final class Tables {
+
+        private static final int RECORD_HEADER_BYTES = Long.BYTES + Integer.BYTES * 2;
+
+        private static final int MIN_ARENA_BYTES = 64 * 1024;
+
+        private final OffHeapLongLongMap authorOffsets;
+
+        private final OffHeapLongLongMap bookAuthors;
+
+        private ByteBuffer arena;
+
+        private int arenaPosition;
+
+        private long garbageBytes;
+
+        private Tables(long expectedAuthors, long expectedBooks) {
+            authorOffsets = new OffHeapLongLongMap(expectedAuthors);
+            bookAuthors = new OffHeapLongLongMap(expectedBooks);
+            arena = allocate((int) Math.min(Math.max(expectedAuthors * 64, MIN_ARENA_BYTES), Integer.MAX_VALUE - 8));
+        }
+
+        private AuthorSummaryProjection readAuthor(long authorId) {
+            long offset = authorOffsets.get(authorId, MISSING);
+
+            if (offset == MISSING) {
+                return null;
+            }
+
+            int position = (int) offset;
+            long version = arena.getLong(position);
+            int nameLength = arena.getInt(position + Long.BYTES);
+            String name = readString(position + Long.BYTES + Integer.BYTES, nameLength);
+            int imagePosition = position + Long.BYTES + Integer.BYTES + Math.max(nameLength, 0);
+            String image = readString(imagePosition + Integer.BYTES, arena.getInt(imagePosition));
+
+            return new AuthorSummaryProjection(authorId, name, image, version);
+        }
+
+        private void putAuthor(AuthorSummaryProjection author) {
+            if (author.getId() == null) {
+                return;
+            }
+
+            byte[] name = encode(author.getName());
+            byte[] image = encode(author.getImage());
+            int length = RECORD_HEADER_BYTES + length(name) + length(image);
+
+            ensureCapacity(length);
+
+            int offset = arenaPosition;
+            arena.putLong(offset, Objects.requireNonNullElse(author.getVersion(), 0L));
+            writeBytes(writeBytes(offset + Long.BYTES, name), image);
+            arenaPosition += length;
+
+            long previous = authorOffsets.put(author.getId(), offset, MISSING);
+            if (previous != MISSING) {
+                garbageBytes += recordLength((int) previous);
+            }
+
+            if (garbageBytes > MIN_ARENA_BYTES && garbageBytes * 2 > arenaPosition) {
+                compact();
+            }
+        }
+
+        private void removeAuthor(long authorId) {
+            long previous = authorOffsets.remove(authorId, MISSING);
+
+            if (previous != MISSING) {
+                garbageBytes += recordLength((int) previous);
+            }
+        }
+
+        private void putBook(String isbn, Long authorId) {
+            long key = isbnKey(isbn);
+
+            if (key == 0) {
+                return;
+            }
+
+            if (authorId == null) {
+                bookAuthors.remove(key, MISSING);
+            } else {
+                bookAuthors.put(key, authorId, MISSING);
+            }
+        }
+
+        private void removeBook(String isbn) {
+            long key = isbnKey(isbn);
+
+            if (key != 0) {
+                bookAuthors.remove(key, MISSING);
+            }
+        }
+
+        private long offHeapBytes() {
+            return authorOffsets.offHeapBytes() + bookAuthors.offHeapBytes() + arena.capacity();
+        }
+
+        private int recordLength(int position) {
+            int nameLength = Math.max(arena.getInt(position + Long.BYTES), 0);
+            int imageLength = Math.max(arena.getInt(position + Long.BYTES + Integer.BYTES + nameLength), 0);
+
+            return RECORD_HEADER_BYTES + nameLength + imageLength;
+        }
+
+        private void compact() {
+            ByteBuffer previous = arena;
+            ByteBuffer compacted = allocate(arena.capacity());
+            int[] position = {0};
+
+            authorOffsets.replaceAll((authorId, offset) -> {
+                int length = recordLength((int) offset);
+                compacted.put(position[0], previous, (int) offset, length);
+
+                long relocated = position[0];
+                position[0] += length;
+                return relocated;
+            });
+
+            arena = compacted;
+            arenaPosition = position[0];
+            garbageBytes = 0;
+        }
+
+        private void ensureCapacity(int length) {
+            long required = (long) arenaPosition + length;
+
+            if (required <= arena.capacity()) {
+                return;
+            }
+            if (required > Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("Author index arena is full");
+            }
+
+            int capacity = (int) Math.min(Math.max(required, (long) arena.capacity() * 2), Integer.MAX_VALUE - 8);
+            ByteBuffer grown = allocate(capacity);
+            grown.put(0, arena, 0, arenaPosition);
+            arena = grown;
+        }
+
+        private int writeBytes(int position, byte[] bytes) {
+            arena.putInt(position, bytes != null ? bytes.length : -1);
+
+            if (bytes != null) {
+                arena.put(position + Integer.BYTES, bytes);
+            }
+
+            return position + Integer.BYTES + length(bytes);
+        }
+
+        private String readString(int position, int length) {
+            if (length < 0) {
+                return null;
+            }
+
+            byte[] bytes = new byte[length];
+            arena.get(position, bytes);
+
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private static byte[] encode(String value) {
+            return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+        }
+
+        private static int length(byte[] bytes) {
+            return bytes != null ? bytes.length : 0;
+        }
+
+        private static ByteBuffer allocate(int capacity) {
+            return ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+        }
+    }
+}
@@ -1,15 +1,24 @@
 package com.dev.bookstore.services.impl;
 
 import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.domain.events.AuthorChangedEvent;
+import com.dev.bookstore.domain.projections.AuthorPageProjection;
+import com.dev.bookstore.domain.requests.AuthorField;
 import com.dev.bookstore.domain.requests.AuthorUpdateRequest;
 import com.dev.bookstore.repositories.AuthorRepository;
 import com.dev.bookstore.services.AuthorService;
+import com.dev.bookstore.services.BookCountService;
+import com.dev.bookstore.services.BookService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -17,51 +26,144 @@ public class AuthorServiceImpl implements AuthorService {
 
     private final AuthorRepository authorRepository;
 
+    private final BookService bookService;
+
+    private final BookCountService bookCountService;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
     @Override
     public AuthorEntity create(AuthorEntity author) {
         if (author.getId() != null) throw new IllegalArgumentException("Cannot create new author with id");
 
-        return authorRepository.save(author);
+        AuthorEntity savedAuthor = authorRepository.save(author);
+
+        bookCountService.register(List.of(savedAuthor.getId()));
+
+        eventPublisher.publishEvent(AuthorChangedEvent.saved(savedAuthor));
+
+        return savedAuthor;
     }
 
+    @Transactional
+    @Override
+    public List<AuthorEntity> createAll(List<AuthorEntity> authors) {
+        if (authors.stream().anyMatch(author -> author.getId() != null)) {
+            throw new IllegalArgumentException("Cannot create new author with id");
+        }
+
+        authorRepository.persistAll(authors);
+
+        bookCountService.register(authors.stream().map(AuthorEntity::getId).toList());
+
+        authors.forEach(author -> eventPublisher.publishEvent(AuthorChangedEvent.saved(author)));
+
+        return authors;
+    }
+
+    @Transactional(readOnly = true)
     @Override
     public List<AuthorEntity> list() {
-        return authorRepository.findAll();
+        return authorRepository.findAll(Sort.by("id"));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<AuthorPageProjection> listPage(Set<AuthorField> fields, Sort sort, int page, int size) {
+        Set<AuthorField> selected = EnumSet.of(AuthorField.ID);
+        selected.addAll(fields);
+
+        Sort stableSort = sort.getOrderFor(AuthorField.ID.getProperty()) != null
+                ? sort
+                : sort.and(Sort.by(AuthorField.ID.getProperty()));
+
+        return authorRepository.findPage(selected, stableSort, page * size, size);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public AuthorEntity get(Long id) {
         return authorRepository.findById(id).orElse(null);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Long getVersion(Long id) {
+        return authorRepository.findVersionById(id).orElse(null);
+    }
+
+    @Transactional
     @Override
     public AuthorEntity fullUpdate(Long id, AuthorEntity author) {
-        if (!authorRepository.existsById(id)) {
-            throw new IllegalStateException("Author not found");
-        }
+        AuthorEntity existingAuthor = authorRepository.findById(id)
+                .orElseThrow(() -> new IllegalStateException("Author not found"));
+
+        existingAuthor.setName(author.getName());
+        existingAuthor.setAge(author.getAge());
+        existingAuthor.setDescription(author.getDescription());
+        existingAuthor.setImage(author.getImage());
 
-        author.setId(id);
+        AuthorEntity savedAuthor = authorRepository.save(existingAuthor);
 
-        return authorRepository.save(author);
+        eventPublisher.publishEvent(AuthorChangedEvent.saved(savedAuthor));
+
+        return savedAuthor;
     }
 
     @Transactional
     @Override
     public AuthorEntity partialUpdate(Long id, AuthorUpdateRequest request) {
-        Optional<AuthorEntity> foundAuthor = authorRepository.findById(id);
+        patch(id, request, null);
+
+        return get(id);
+    }
 
-        return foundAuthor.map(existingAuthor -> {
-            Optional.ofNullable(request.getName()).ifPresent(existingAuthor::setName);
-            Optional.ofNullable(request.getAge()).ifPresent(existingAuthor::setAge);
-            Optional.ofNullable(request.getDescription()).ifPresent(existingAuthor::setDescription);
-            Optional.ofNullable(request.getImage()).ifPresent(existingAuthor::setImage);
+    @Transactional
+    @Override
+    public long patch(Long id, AuthorUpdateRequest request, Long expectedVersion) {
+        if (request.getName() == null && request.getAge() == null && request.getDescription() == null
+                && request.getImage() == null) {
+            long version = authorRepository.findVersionById(id)
+                    .orElseThrow(() -> new IllegalStateException("Author not found"));
 
-            return authorRepository.save(existingAuthor);
-        }).orElseThrow(() -> new IllegalStateException("Author not found"));
+            if (expectedVersion != null && expectedVersion != version) {
+                throw new OptimisticLockingFailureException("Author " + id + " is at version " + version);
+            }
+
+            return version;
+        }
+
+        if (authorRepository.patch(id, request, expectedVersion) == 0) {
+            long version = authorRepository.findVersionById(id)
+                    .orElseThrow(() -> new IllegalStateException("Author not found"));
+
+            throw new OptimisticLockingFailureException("Author " + id + " is at version " + version);
+        }
+
+        long version = expectedVersion != null
+                ? expectedVersion + 1
+                : authorRepository.findVersionById(id).orElseThrow();
+
+        eventPublisher.publishEvent(AuthorChangedEvent.patched(AuthorEntity.builder()
+                .id(id)
+                .name(request.getName())
+                .age(request.getAge())
+                .description(request.getDescription())
+                .image(request.getImage())
+                .version(version)
+                .build()));
+
+        return version;
     }
 
+    @Transactional
     @Override
     public void delete(Long id) {
-        authorRepository.deleteById(id);
+        bookService.deleteAllByAuthorId(id);
+        authorRepository.deleteAuthorById(id);
+        bookCountService.remove(id);
+
+        eventPublisher.publishEvent(AuthorChangedEvent.deleted(id));
     }
 }
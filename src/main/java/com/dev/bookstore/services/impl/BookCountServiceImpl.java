@@ -0,0 +1,85 @@
+package com.dev.bookstore.services.impl;
+
+import com.dev.bookstore.domain.entities.AuthorBookCountEntity;
+import com.dev.bookstore.repositories.AuthorBookCountRepository;
+import com.dev.bookstore.services.BookCountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookCountServiceImpl implements BookCountService {
+
+    private final AuthorBookCountRepository authorBookCountRepository;
+
+    @Override
+    public long getBookCount(Long authorId) {
+        return authorBookCountRepository.findBookCountByAuthorId(authorId).orElse(0L);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Override
+    public void register(Collection<Long> authorIds) {
+        authorBookCountRepository.persistAll(authorIds.stream()
+                .map(authorId -> new AuthorBookCountEntity(authorId, 0))
+                .toList());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Override
+    public void adjust(Long authorId, long delta) {
+        if (authorId == null || delta == 0) {
+            return;
+        }
+
+        authorBookCountRepository.increment(authorId, delta);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Override
+    public void adjust(Map<Long, Long> deltas) {
+        deltas.forEach(this::adjust);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Override
+    public void assignBook(String isbn, Long authorId) {
+        authorBookCountRepository.flush();
+        authorBookCountRepository.assignBook(isbn, authorId);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Override
+    public void unassignBook(String isbn) {
+        authorBookCountRepository.flush();
+        authorBookCountRepository.unassignBook(isbn);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Override
+    public void remove(Long authorId) {
+        authorBookCountRepository.deleteByAuthorId(authorId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    @Override
+    public int backfill() {
+        int inserted = authorBookCountRepository.insertMissing();
+
+        if (inserted > 0) {
+            log.info("Backfilled book counts for {} authors", inserted);
+        }
+
+        return inserted;
+    }
+}
@@ -0,0 +1,266 @@
+package com.dev.bookstore.services.impl;
+
+import com.dev.bookstore.config.SearchIndexProperties;
+import com.dev.bookstore.domain.dto.BookSummaryDto;
+import com.dev.bookstore.domain.entities.BookEntity;
+import com.dev.bookstore.domain.events.BookChangedEvent;
+import com.dev.bookstore.domain.projections.BookSummaryEntry;
+import com.dev.bookstore.domain.projections.BookSummaryProjection;
+import com.dev.bookstore.repositories.BookRepository;
+import com.dev.bookstore.services.BookSearchService;
+import com.dev.bookstore.services.BookSummaryReadModel;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookSearchServiceImpl implements BookSearchService {
+
+    private static final String ISBN_FIELD = "isbn";
+
+    private static final String TITLE_FIELD = "title";
+
+    private static final String DESCRIPTION_FIELD = "description";
+
+    private static final float TITLE_BOOST = 3.0f;
+
+    private static final float PREFIX_BOOST = 0.5f;
+
+    private static final int MAX_QUERY_TERMS = 16;
+
+    private final BookRepository bookRepository;
+
+    private final BookSummaryReadModel bookSummaryReadModel;
+
+    private final SearchIndexProperties properties;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+
+    private Directory directory;
+
+    private IndexWriter indexWriter;
+
+    private SearcherManager searcherManager;
+
+    @PostConstruct
+    public void open() {
+        try {
+            if (properties.getDirectory() != null) {
+                directory = FSDirectory.open(Files.createDirectories(properties.getDirectory()));
+            } else {
+                directory = new ByteBuffersDirectory();
+            }
+
+            boolean indexExists = DirectoryReader.indexExists(directory);
+
+            indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            searcherManager = new SearcherManager(indexWriter, null);
+
+            if (!indexExists || indexWriter.getDocStats().numDocs != bookRepository.count()) {
+                reindex();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    @Override
+    public List<BookSummaryDto> search(String query, int limit) {
+        List<String> isbns = new ArrayList<>(limit);
+
+        try {
+            Query luceneQuery = buildQuery(query);
+
+            if (luceneQuery == null) {
+                return List.of();
+            }
+
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(luceneQuery, limit);
+                StoredFields storedFields = searcher.storedFields();
+
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    isbns.add(storedFields.document(scoreDoc.doc, Set.of(ISBN_FIELD)).get(ISBN_FIELD));
+                }
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return isbns.stream()
+                .map(bookSummaryReadModel::get)
+                .flatMap(Optional::stream)
+                .map(BookSummaryEntry::getSummary)
+                .toList();
+    }
+
+    @Override
+    public synchronized void reindex() {
+        int batchSize = properties.getReindexBatchSize();
+
+        try {
+            indexWriter.deleteAll();
+
+            String after = "";
+            List<BookSummaryProjection> page;
+
+            do {
+                page = bookRepository.findSummaries(after, Limit.of(batchSize));
+
+                for (BookSummaryProjection book : page) {
+                    indexWriter.addDocument(toDocument(book.getIsbn(), book.getTitle(), book.getDescription()));
+                }
+
+                if (!page.isEmpty()) {
+                    after = page.get(page.size() - 1).getIsbn();
+                }
+            } while (page.size() == batchSize);
+
+            indexWriter.commit();
+            searcherManager.maybeRefresh();
+
+            log.info("Indexed {} books for search", indexWriter.getDocStats().numDocs);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        try {
+            for (BookEntity book : event.getSavedBooks()) {
+                indexWriter.updateDocument(
+                        new Term(ISBN_FIELD, book.getIsbn()),
+                        toDocument(book.getIsbn(), book.getTitle(), book.getDescription())
+                );
+            }
+
+            for (BookEntity patch : event.getPatchedBooks()) {
+                if (patch.getTitle() == null && patch.getDescription() == null) {
+                    continue;
+                }
+
+                indexWriter.updateDocument(new Term(ISBN_FIELD, patch.getIsbn()), toDocument(patch));
+            }
+
+            for (String isbn : event.getDeletedIsbns()) {
+                indexWriter.deleteDocuments(new Term(ISBN_FIELD, isbn));
+            }
+
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.error("Failed to update the search index, call reindex to recover", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${bookstore.search.commit-interval:5s}")
+    public void commit() throws IOException {
+        if (indexWriter.hasUncommittedChanges()) {
+            indexWriter.commit();
+        }
+    }
+
+    private Query buildQuery(String text) throws IOException {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        int terms = 0;
+
+        try (TokenStream tokens = analyzer.tokenStream(TITLE_FIELD, text)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+
+            while (tokens.incrementToken() && terms < MAX_QUERY_TERMS) {
+                query.add(termQuery(term.toString()), BooleanClause.Occur.MUST);
+                terms++;
+            }
+
+            tokens.end();
+        }
+
+        return terms > 0 ? query.build() : null;
+    }
+
+    private static Query termQuery(String term) {
+        return new BooleanQuery.Builder()
+                .add(new BoostQuery(new TermQuery(new Term(TITLE_FIELD, term)), TITLE_BOOST), BooleanClause.Occur.SHOULD)
+                .add(new TermQuery(new Term(DESCRIPTION_FIELD, term)), BooleanClause.Occur.SHOULD)
+                .add(new BoostQuery(new PrefixQuery(new Term(TITLE_FIELD, term)), TITLE_BOOST * PREFIX_BOOST), BooleanClause.Occur.SHOULD)
+                .add(new BoostQuery(new PrefixQuery(new Term(DESCRIPTION_FIELD, term)), PREFIX_BOOST), BooleanClause.Occur.SHOULD)
+                .build();
+    }
+
+    private Document toDocument(BookEntity patch) {
+        String title = patch.getTitle();
+        String description = patch.getDescription();
+
+        if (title == null || description == null) {
+            Optional<BookSummaryDto> current = bookSummaryReadModel.get(patch.getIsbn())
+                    .map(BookSummaryEntry::getSummary)
+                    .or(() -> bookRepository.findById(patch.getIsbn())
+                            .map(book -> BookSummaryDto.builder()
+                                    .title(book.getTitle())
+                                    .description(book.getDescription())
+                                    .build()));
+
+            if (current.isPresent()) {
+                title = Optional.ofNullable(title).orElse(current.get().getTitle());
+                description = Optional.ofNullable(description).orElse(current.get().getDescription());
+            }
+        }
+
+        return toDocument(patch.getIsbn(), title, description);
+    }
+
+    private static Document toDocument(String isbn, String title, String description) {
+        Document document = new Document();
+        document.add(new StringField(ISBN_FIELD, isbn, Field.Store.YES));
+
+        if (title != null) {
+            document.add(new TextField(TITLE_FIELD, title, Field.Store.NO));
+        }
+        if (description != null) {
+            document.add(new TextField(DESCRIPTION_FIELD, description, Field.Store.NO));
+        }
+
+        return document;
+    }
+}
@@ -2,19 +2,34 @@ package com.dev.bookstore.services.impl;
 
 import com.dev.bookstore.domain.entities.AuthorEntity;
 import com.dev.bookstore.domain.entities.BookEntity;
+import com.dev.bookstore.domain.events.BookChangedEvent;
+import com.dev.bookstore.domain.projections.BookSummaryProjection;
+import com.dev.bookstore.domain.projections.BookVersionProjection;
+import com.dev.bookstore.domain.requests.AuthorSummary;
 import com.dev.bookstore.domain.requests.BookSummary;
 import com.dev.bookstore.domain.requests.BookUpdateRequest;
 import com.dev.bookstore.domain.response.BookResponse;
+import com.dev.bookstore.domain.response.BookUpsertResult;
+import com.dev.bookstore.domain.response.BookUpsertStatus;
 import com.dev.bookstore.mappers.impl.BookMapper;
 import com.dev.bookstore.repositories.AuthorRepository;
 import com.dev.bookstore.repositories.BookRepository;
+import com.dev.bookstore.services.AuthorIndex;
+import com.dev.bookstore.services.BookCountService;
 import com.dev.bookstore.services.BookService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,54 +41,246 @@ public class BookServiceImpl implements BookService {
 
     private final BookMapper bookMapper;
 
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ObjectProvider<AuthorIndex> authorIndex;
+
+    private final BookCountService bookCountService;
+
     @Transactional
     @Override
     public BookResponse createUpdate(String isbn, BookSummary bookSummary) {
         bookSummary.setIsbn(isbn);
 
-        boolean exists = bookRepository.existsById(isbn);
+        Long authorId = bookSummary.getAuthor().getId();
+        AuthorIndex index = authorIndex.getIfAvailable();
 
-        AuthorEntity author = authorRepository.findById(bookSummary.getAuthor().getId())
-                .orElseThrow(() -> new IllegalStateException("Author not found"));
+        if (authorId == null || index != null && !index.containsAuthor(authorId)) {
+            throw new IllegalStateException("Author not found");
+        }
 
+        AuthorEntity author = AuthorEntity.builder().id(authorId).build();
         BookEntity bookToSave = bookMapper.bookSummaryToBookEntity(bookSummary, author);
 
-        BookEntity savedBook = bookRepository.save(bookToSave);
+        boolean sameAuthor = index != null && index.findAuthorId(isbn).equals(OptionalLong.of(authorId));
+
+        try {
+            if (!sameAuthor) {
+                bookCountService.assignBook(isbn, authorId);
+            }
+            bookRepository.upsert(bookToSave);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("Author not found", e);
+        }
+
+        eventPublisher.publishEvent(BookChangedEvent.saved(bookToSave));
 
         return BookResponse.builder()
-                .book(savedBook)
-                .create(!exists)
+                .book(bookToSave)
+                .create(bookToSave.getVersion() == 0)
                 .build();
     }
 
+    @Transactional
     @Override
-    public List<BookEntity> list(Long authorId) {
+    public List<BookUpsertResult> createUpdateAll(List<BookSummary> bookSummaries) {
+        Set<Long> authorIds = bookSummaries.stream()
+                .map(BookSummary::getAuthor)
+                .filter(Objects::nonNull)
+                .map(AuthorSummary::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        AuthorIndex index = authorIndex.getIfAvailable();
+
+        if (index != null) {
+            authorIds.removeIf(authorId -> !index.containsAuthor(authorId));
+        }
+
+        Map<Long, AuthorEntity> authors = authorRepository.findAllById(authorIds)
+                .stream()
+                .collect(Collectors.toMap(AuthorEntity::getId, Function.identity()));
+
+        Set<String> isbns = bookSummaries.stream()
+                .map(BookSummary::getIsbn)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<String, BookVersionProjection> existingBooks = bookRepository.findVersionsByIsbnIn(isbns)
+                .stream()
+                .collect(Collectors.toMap(BookVersionProjection::getIsbn, Function.identity()));
+
+        List<BookUpsertResult> results = new ArrayList<>(bookSummaries.size());
+        List<BookEntity> booksToSave = new ArrayList<>();
+        Set<String> processedIsbns = new HashSet<>();
+        Map<Long, Long> countDeltas = new HashMap<>();
+
+        for (BookSummary bookSummary : bookSummaries) {
+            String isbn = bookSummary.getIsbn();
+
+            if (isbn == null || isbn.isBlank()) {
+                results.add(failedUpsert(isbn, "ISBN is required"));
+                continue;
+            }
+
+            if (!processedIsbns.add(isbn)) {
+                results.add(failedUpsert(isbn, "Duplicate ISBN in batch"));
+                continue;
+            }
+
+            AuthorEntity author = bookSummary.getAuthor() != null
+                    ? authors.get(bookSummary.getAuthor().getId())
+                    : null;
+
+            if (author == null) {
+                results.add(failedUpsert(isbn, "Author not found"));
+                continue;
+            }
+
+            BookVersionProjection existingBook = existingBooks.get(isbn);
+
+            if (existingBook == null || !author.getId().equals(existingBook.getAuthorId())) {
+                countDeltas.merge(author.getId(), 1L, Long::sum);
+
+                if (existingBook != null && existingBook.getAuthorId() != null) {
+                    countDeltas.merge(existingBook.getAuthorId(), -1L, Long::sum);
+                }
+            }
+
+            booksToSave.add(bookMapper.bookSummaryToBookEntity(bookSummary, author));
+            results.add(BookUpsertResult.builder()
+                    .isbn(isbn)
+                    .status(existingBook != null ? BookUpsertStatus.UPDATED : BookUpsertStatus.CREATED)
+                    .build());
+        }
+
+        bookRepository.upsertAll(booksToSave);
+        bookCountService.adjust(countDeltas);
+
+        if (!booksToSave.isEmpty()) {
+            Map<String, Long> versions = bookRepository.findVersionsByIsbnIn(booksToSave.stream().map(BookEntity::getIsbn).toList())
+                    .stream()
+                    .collect(Collectors.toMap(BookVersionProjection::getIsbn, BookVersionProjection::getVersion));
+
+            booksToSave.forEach(book -> book.setVersion(versions.get(book.getIsbn())));
+        }
+
+        eventPublisher.publishEvent(BookChangedEvent.saved(booksToSave));
+
+        return results;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<BookSummaryProjection> list(Long authorId, String after, int limit) {
+        String lowerBound = after != null ? after : "";
+
         return authorId != null
-                ? bookRepository.findByAuthorId(authorId)
-                : bookRepository.findAll();
+                ? bookRepository.findSummariesByAuthorId(authorId, lowerBound, Limit.of(limit))
+                : bookRepository.findSummaries(lowerBound, Limit.of(limit));
     }
 
+    @Transactional(readOnly = true)
     @Override
     public BookEntity get(String isbn) {
         return bookRepository.findById(isbn)
                 .orElseThrow(() -> new IllegalStateException("Book not found"));
     }
 
+    @Transactional
     @Override
     public BookEntity partialUpdate(String isbn, BookUpdateRequest bookUpdateRequest) {
-        Optional<BookEntity> foundBook = bookRepository.findById(isbn);
+        patch(isbn, bookUpdateRequest, null);
 
-        return foundBook.map(existingBook -> {
-            Optional.ofNullable(bookUpdateRequest.getTitle()).ifPresent(existingBook::setTitle);
-            Optional.ofNullable(bookUpdateRequest.getDescription()).ifPresent(existingBook::setDescription);
-            Optional.ofNullable(bookUpdateRequest.getImage()).ifPresent(existingBook::setImage);
+        return get(isbn);
+    }
+
+    @Transactional
+    @Override
+    public long patch(String isbn, BookUpdateRequest bookUpdateRequest, Long expectedVersion) {
+        if (bookUpdateRequest.getTitle() == null && bookUpdateRequest.getDescription() == null
+                && bookUpdateRequest.getImage() == null) {
+            long version = bookRepository.findVersionById(isbn)
+                    .orElseThrow(() -> new IllegalStateException("Book not found"));
+
+            if (expectedVersion != null && expectedVersion != version) {
+                throw new OptimisticLockingFailureException("Book " + isbn + " is at version " + version);
+            }
+
+            return version;
+        }
+
+        if (bookRepository.patch(isbn, bookUpdateRequest, expectedVersion) == 0) {
+            long version = bookRepository.findVersionById(isbn)
+                    .orElseThrow(() -> new IllegalStateException("Book not found"));
+
+            throw new OptimisticLockingFailureException("Book " + isbn + " is at version " + version);
+        }
 
-            return bookRepository.save(existingBook);
-        }).orElseThrow(() -> new IllegalStateException("Book not found"));
+        long version = expectedVersion != null
+                ? expectedVersion + 1
+                : bookRepository.findVersionById(isbn).orElseThrow();
+
+        eventPublisher.publishEvent(BookChangedEvent.patched(BookEntity.builder()
+                .isbn(isbn)
+                .title(bookUpdateRequest.getTitle())
+                .description(bookUpdateRequest.getDescription())
+                .image(bookUpdateRequest.getImage())
+                .version(version)
+                .build()));
+
+        return version;
     }
 
+    @Transactional
     @Override
     public void delete(String isbn) {
-        bookRepository.deleteById(isbn);
+        bookCountService.unassignBook(isbn);
+        bookRepository.deleteByIsbn(isbn);
+
+        eventPublisher.publishEvent(BookChangedEvent.deleted(isbn));
+    }
+
+    @Transactional
+    @Override
+    public int deleteByAuthorId(Long authorId, int limit) {
+        List<String> isbns = bookRepository.findIsbnsByAuthorId(authorId, Limit.of(limit));
+
+        if (isbns.isEmpty()) {
+            return 0;
+        }
+
+        int deleted = bookRepository.deleteAllByAuthorIdAndIsbnIn(authorId, isbns);
+
+        if (deleted < isbns.size()) {
+            Set<String> remaining = new HashSet<>(bookRepository.findIsbnsByIsbnIn(isbns));
+            isbns = isbns.stream().filter(isbn -> !remaining.contains(isbn)).toList();
+        }
+
+        bookCountService.adjust(authorId, -deleted);
+
+        eventPublisher.publishEvent(BookChangedEvent.deleted(isbns));
+
+        return deleted;
+    }
+
+    private static BookUpsertResult failedUpsert(String isbn, String error) {
+        return BookUpsertResult.builder()
+                .isbn(isbn)
+                .status(BookUpsertStatus.FAILED)
+                .error(error)
+                .build();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Override
+    public int deleteAllByAuthorId(Long authorId) {
+        List<String> isbns = bookRepository.deleteAllByAuthorId(authorId);
+
+        if (!isbns.isEmpty()) {
+            eventPublisher.publishEvent(BookChangedEvent.deleted(isbns));
+        }
+
+        return isbns.size();
     }
 }
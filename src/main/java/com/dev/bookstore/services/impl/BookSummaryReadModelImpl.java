@@ -0,0 +1,324 @@
+package com.dev.bookstore.services.impl;
+
+import com.dev.bookstore.domain.dto.AuthorSummaryDto;
+import com.dev.bookstore.domain.dto.BookSummaryDto;
+import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.domain.entities.BookEntity;
+import com.dev.bookstore.domain.events.AuthorChangedEvent;
+import com.dev.bookstore.domain.events.BookChangedEvent;
+import com.dev.bookstore.domain.projections.AuthorSummaryProjection;
+import com.dev.bookstore.domain.projections.BookRowProjection;
+import com.dev.bookstore.domain.projections.BookSummaryEntry;
+import com.dev.bookstore.domain.projections.BookSummaryProjection;
+import com.dev.bookstore.mappers.impl.AuthorMapper;
+import com.dev.bookstore.mappers.impl.BookMapper;
+import com.dev.bookstore.repositories.AuthorRepository;
+import com.dev.bookstore.repositories.BookRepository;
+import com.dev.bookstore.services.AuthorIndex;
+import com.dev.bookstore.services.BookSummaryReadModel;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+@Service
+@RequiredArgsConstructor
+public class BookSummaryReadModelImpl implements BookSummaryReadModel {
+
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+
+    private final BookRepository bookRepository;
+
+    private final AuthorRepository authorRepository;
+
+    private final BookMapper bookMapper;
+
+    private final AuthorMapper authorMapper;
+
+    private final ObjectProvider<AuthorIndex> authorIndex;
+
+    private volatile Index index = new Index();
+
+    @PostConstruct
+    public void load() {
+        rebuild();
+    }
+
+    @Override
+    public List<BookSummaryEntry> list(Long authorId, String after, int limit) {
+        Index current = index;
+        String lowerBound = after != null ? after : "";
+
+        if (authorId == null) {
+            return current.booksByIsbn.tailMap(lowerBound, false)
+                    .values()
+                    .stream()
+                    .limit(limit)
+                    .toList();
+        }
+
+        NavigableSet<String> isbns = current.isbnsByAuthorId.get(authorId);
+
+        if (isbns == null) {
+            return List.of();
+        }
+
+        return isbns.tailSet(lowerBound, false)
+                .stream()
+                .map(current.booksByIsbn::get)
+                .filter(Objects::nonNull)
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public Optional<BookSummaryEntry> get(String isbn) {
+        return Optional.ofNullable(index.booksByIsbn.get(isbn));
+    }
+
+    @Override
+    public synchronized void rebuild() {
+        AuthorIndex authors = authorIndex.getIfAvailable();
+
+        index = authors != null ? rebuildFromAuthorIndex(authors) : rebuildFromSummaries();
+    }
+
+    private Index rebuildFromSummaries() {
+        Index rebuilt = new Index();
+
+        String after = "";
+        List<BookSummaryProjection> page;
+
+        do {
+            page = bookRepository.findSummaries(after, Limit.of(REBUILD_BATCH_SIZE));
+
+            for (BookSummaryProjection book : page) {
+                rebuilt.put(new BookSummaryEntry(
+                        bookMapper.toBookSummaryDto(book),
+                        Objects.requireNonNullElse(book.getVersion(), 0L),
+                        book.getAuthorId(),
+                        Objects.requireNonNullElse(book.getAuthorVersion(), 0L)
+                ));
+            }
+
+            if (!page.isEmpty()) {
+                after = page.get(page.size() - 1).getIsbn();
+            }
+        } while (page.size() == REBUILD_BATCH_SIZE);
+
+        return rebuilt;
+    }
+
+    private Index rebuildFromAuthorIndex(AuthorIndex authorIndex) {
+        Index rebuilt = new Index();
+
+        String after = "";
+        List<BookRowProjection> page;
+
+        do {
+            page = bookRepository.findRows(after, Limit.of(REBUILD_BATCH_SIZE));
+
+            for (BookRowProjection book : page) {
+                AuthorSummaryProjection author = book.getAuthorId() != null
+                        ? authorIndex.findAuthor(book.getAuthorId()).orElse(null)
+                        : null;
+
+                rebuilt.put(new BookSummaryEntry(
+                        bookMapper.toBookSummaryDto(new BookSummaryProjection(
+                                book.getIsbn(), book.getTitle(), book.getDescription(), book.getImage(), book.getVersion(),
+                                book.getAuthorId(),
+                                author != null ? author.getName() : null,
+                                author != null ? author.getImage() : null,
+                                author != null ? author.getVersion() : null
+                        )),
+                        Objects.requireNonNullElse(book.getVersion(), 0L),
+                        book.getAuthorId(),
+                        author != null ? Objects.requireNonNullElse(author.getVersion(), 0L) : 0L
+                ));
+            }
+
+            if (!page.isEmpty()) {
+                after = page.get(page.size() - 1).getIsbn();
+            }
+        } while (page.size() == REBUILD_BATCH_SIZE);
+
+        return rebuilt;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onBookChanged(BookChangedEvent event) {
+        Index current = index;
+
+        for (BookEntity book : event.getSavedBooks()) {
+            BookSummaryEntry entry = toEntry(current, book);
+            BookSummaryEntry existing = current.booksByIsbn.get(entry.getIsbn());
+
+            if (existing == null || existing.getVersion() <= entry.getVersion()) {
+                current.put(entry);
+            }
+        }
+
+        for (BookEntity patch : event.getPatchedBooks()) {
+            BookSummaryEntry existing = current.booksByIsbn.get(patch.getIsbn());
+
+            if (existing == null || existing.getVersion() >= patch.getVersion()) {
+                continue;
+            }
+
+            BookSummaryDto summary = existing.getSummary();
+
+            current.put(new BookSummaryEntry(
+                    BookSummaryDto.builder()
+                            .isbn(summary.getIsbn())
+                            .title(Optional.ofNullable(patch.getTitle()).orElse(summary.getTitle()))
+                            .description(Optional.ofNullable(patch.getDescription()).orElse(summary.getDescription()))
+                            .image(Optional.ofNullable(patch.getImage()).orElse(summary.getImage()))
+                            .author(summary.getAuthor())
+                            .build(),
+                    patch.getVersion(),
+                    existing.getAuthorId(),
+                    existing.getAuthorVersion()
+            ));
+        }
+
+        event.getDeletedIsbns().forEach(current::remove);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onAuthorChanged(AuthorChangedEvent event) {
+        Index current = index;
+        NavigableSet<String> isbns = current.isbnsByAuthorId.get(event.getAuthorId());
+
+        if (isbns == null) {
+            return;
+        }
+
+        if (event.isDeleted()) {
+            List.copyOf(isbns).forEach(current::remove);
+            return;
+        }
+
+        AuthorEntity author = event.getAuthor();
+        long authorVersion = Objects.requireNonNullElse(author.getVersion(), 0L);
+
+        for (String isbn : isbns) {
+            BookSummaryEntry existing = current.booksByIsbn.get(isbn);
+
+            if (existing == null || existing.getAuthorVersion() > authorVersion) {
+                continue;
+            }
+
+            BookSummaryDto summary = existing.getSummary();
+            AuthorSummaryDto authorSummary = event.isPartial()
+                    ? AuthorSummaryDto.builder()
+                            .id(author.getId())
+                            .name(Optional.ofNullable(author.getName()).orElse(summary.getAuthor().getName()))
+                            .image(Optional.ofNullable(author.getImage()).orElse(summary.getAuthor().getImage()))
+                            .build()
+                    : authorMapper.toAuthorSummaryDto(author);
+
+            current.put(new BookSummaryEntry(
+                    BookSummaryDto.builder()
+                            .isbn(summary.getIsbn())
+                            .title(summary.getTitle())
+                            .description(summary.getDescription())
+                            .image(summary.getImage())
+                            .author(authorSummary)
+                            .build(),
+                    existing.getVersion(),
+                    author.getId(),
+                    authorVersion
+            ));
+        }
+    }
+
+    private BookSummaryEntry toEntry(Index current, BookEntity book) {
+        AuthorEntity author = book.getAuthor();
+
+        if (author == null || author.getVersion() != null) {
+            return new BookSummaryEntry(
+                    bookMapper.toBookSummaryDto(book),
+                    Objects.requireNonNullElse(book.getVersion(), 0L),
+                    author != null ? author.getId() : null,
+                    author != null ? Objects.requireNonNullElse(author.getVersion(), 0L) : 0L
+            );
+        }
+
+        AuthorSummaryProjection summary = resolveAuthor(current, author.getId());
+
+        return new BookSummaryEntry(
+                bookMapper.toBookSummaryDto(new BookSummaryProjection(
+                        book.getIsbn(), book.getTitle(), book.getDescription(), book.getImage(), book.getVersion(),
+                        summary.getId(), summary.getName(), summary.getImage(), summary.getVersion()
+                )),
+                Objects.requireNonNullElse(book.getVersion(), 0L),
+                summary.getId(),
+                Objects.requireNonNullElse(summary.getVersion(), 0L)
+        );
+    }
+
+    private AuthorSummaryProjection resolveAuthor(Index current, Long authorId) {
+        Optional<BookSummaryEntry> sibling = Optional.ofNullable(current.isbnsByAuthorId.get(authorId))
+                .stream()
+                .flatMap(Collection::stream)
+                .map(current.booksByIsbn::get)
+                .filter(Objects::nonNull)
+                .findFirst();
+
+        if (sibling.isPresent()) {
+            AuthorSummaryDto author = sibling.get().getSummary().getAuthor();
+            return new AuthorSummaryProjection(authorId, author.getName(), author.getImage(), sibling.get().getAuthorVersion());
+        }
+
+        return Optional.ofNullable(authorIndex.getIfAvailable())
+                .flatMap(authors -> authors.findAuthor(authorId))
+                .or(() -> authorRepository.findById(authorId).map(author -> new AuthorSummaryProjection(
+                        author.getId(), author.getName(), author.getImage(), author.getVersion()
+                )))
+                .orElseGet(() -> new AuthorSummaryProjection(authorId, null, null, 0L));
+    }
+
+    private static final class Index {
+
+        private final ConcurrentSkipListMap<String, BookSummaryEntry> booksByIsbn = new ConcurrentSkipListMap<>();
+
+        private final ConcurrentMap<Long, ConcurrentSkipListSet<String>> isbnsByAuthorId = new ConcurrentHashMap<>();
+
+        private void put(BookSummaryEntry entry) {
+            BookSummaryEntry previous = booksByIsbn.put(entry.getIsbn(), entry);
+
+            if (previous != null && previous.getAuthorId() != null
+                    && !previous.getAuthorId().equals(entry.getAuthorId())) {
+                removeFromAuthor(previous.getAuthorId(), entry.getIsbn());
+            }
+
+            if (entry.getAuthorId() != null) {
+                isbnsByAuthorId.computeIfAbsent(entry.getAuthorId(), id -> new ConcurrentSkipListSet<>())
+                        .add(entry.getIsbn());
+            }
+        }
+
+        private void remove(String isbn) {
+            BookSummaryEntry previous = booksByIsbn.remove(isbn);
+
+            if (previous != null && previous.getAuthorId() != null) {
+                removeFromAuthor(previous.getAuthorId(), isbn);
+            }
+        }
+
+        private void removeFromAuthor(Long authorId, String isbn) {
+            isbnsByAuthorId.computeIfPresent(authorId, (id, isbns) -> {
+                isbns.remove(isbn);
+                return isbns.isEmpty() ? null : isbns;
+            });
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.dev.bookstore.services.impl;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+final class CsvRecordReader {
+
+    private static final int MAX_FIELD_LENGTH = 1 << 20;
+
+    private final Reader reader;
+
+    private final StringBuilder field = new StringBuilder();
+
+    private long line = 1;
+
+    private long recordLine;
+
+    CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    List<String> read() throws IOException {
+        int c = reader.read();
+
+        if (c == -1) {
+            return null;
+        }
+
+        recordLine = line;
+
+        List<String> fields = new ArrayList<>();
+        boolean quoted = false;
+        boolean fieldStart = true;
+        field.setLength(0);
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted field starting on line " + recordLine);
+                }
+                if (c == '"') {
+                    c = reader.read();
+
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    line++;
+                }
+
+                append(c);
+            } else if (c == -1 || c == '\n') {
+                if (c == '\n') {
+                    line++;
+                }
+
+                fields.add(field.toString());
+                return fields;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+                fieldStart = false;
+            } else if (c != '\r') {
+                append(c);
+                fieldStart = false;
+            }
+
+            c = reader.read();
+        }
+    }
+
+    long recordLine() {
+        return recordLine;
+    }
+
+    private void append(int c) throws IOException {
+        if (field.length() >= MAX_FIELD_LENGTH) {
+            throw new IOException("Field on line " + recordLine + " exceeds " + MAX_FIELD_LENGTH + " characters");
+        }
+
+        field.append((char) c);
+    }
+}
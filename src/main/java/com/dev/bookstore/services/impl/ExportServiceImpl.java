@@ -0,0 +1,247 @@
+package com.dev.bookstore.services.impl;
+
+import com.dev.bookstore.config.ExportProperties;
+import com.dev.bookstore.domain.requests.CatalogFileFormat;
+import com.dev.bookstore.domain.response.ExportJobResponse;
+import com.dev.bookstore.domain.response.JobStatus;
+import com.dev.bookstore.services.ExportService;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    private static final String SELECT_BOOKS = """
+            select b.isbn, b.title, b.description, b.image, a.id as author_id, a.name as author_name
+            from books b
+            left join authors a on a.id = b.author_id
+            order by b.isbn
+            """;
+
+    private static final String[] COLUMNS = {"isbn", "title", "description", "image", "author_id", "author_name"};
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final ExportProperties properties;
+
+    private final JobRunner<ExportJob> jobs;
+
+    public ExportServiceImpl(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, ExportProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.jobs = new JobRunner<>("export", properties.getMaxConcurrentJobs(), properties.getMaxQueuedJobs());
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(properties.getDirectory());
+    }
+
+    @PreDestroy
+    public void close() {
+        jobs.close();
+    }
+
+    @Override
+    public ExportJobResponse start(CatalogFileFormat format) {
+        return jobs.submit(new ExportJob(format), this::run).toResponse();
+    }
+
+    @Override
+    public Optional<ExportJobResponse> get(String id) {
+        return jobs.get(id).map(ExportJob::toResponse);
+    }
+
+    @Override
+    public Optional<Path> getFile(String id) {
+        return jobs.get(id)
+                .filter(job -> job.status == JobStatus.COMPLETED)
+                .map(job -> properties.getDirectory().resolve(job.fileName()));
+    }
+
+    @Scheduled(fixedDelayString = "${bookstore.export.cleanup-interval:10m}")
+    public void cleanup() {
+        jobs.cleanup(properties.getRetention(), job -> deleteQuietly(properties.getDirectory().resolve(job.fileName())));
+    }
+
+    private void run(ExportJob job) throws IOException {
+        Path target = properties.getDirectory().resolve(job.fileName());
+        Path partial = properties.getDirectory().resolve(job.fileName() + ".part");
+
+        try {
+            try (FileChannel channel = FileChannel.open(partial,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                 OutputStream output = new GZIPOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE)) {
+
+                RowWriter writer = job.format == CatalogFileFormat.CSV ? new CsvRowWriter(output) : new JsonlRowWriter(output);
+
+                jdbcTemplate.query(this::prepareCursor, (RowCallbackHandler) resultSet -> {
+                    try {
+                        writer.write(resultSet);
+                        job.rows++;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+                writer.finish();
+            }
+
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(partial);
+            throw e;
+        }
+
+        job.bytes = Files.size(target);
+
+        log.info("Exported {} books to {} ({} bytes)", job.rows, target, job.bytes);
+    }
+
+    private PreparedStatement prepareCursor(Connection connection) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(
+                SELECT_BOOKS, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY
+        );
+
+        boolean mysql = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql");
+        statement.setFetchSize(mysql ? Integer.MIN_VALUE : properties.getFetchSize());
+
+        return statement;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete {}", path, e);
+        }
+    }
+
+    private interface RowWriter {
+
+        void write(ResultSet row) throws SQLException, IOException;
+
+        void finish() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final CsvRecordWriter writer;
+
+        private final String[] fields = new String[COLUMNS.length];
+
+        private CsvRowWriter(OutputStream output) throws IOException {
+            this.writer = new CsvRecordWriter(
+                    new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE)
+            );
+            this.writer.write(COLUMNS);
+        }
+
+        @Override
+        public void write(ResultSet row) throws SQLException, IOException {
+            for (int i = 0; i < COLUMNS.length; i++) {
+                fields[i] = row.getString(i + 1);
+            }
+            writer.write(fields);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private final class JsonlRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        private JsonlRowWriter(OutputStream output) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(output, JsonEncoding.UTF8);
+        }
+
+        @Override
+        public void write(ResultSet row) throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeStringField("isbn", row.getString(1));
+            generator.writeStringField("title", row.getString(2));
+            generator.writeStringField("description", row.getString(3));
+            generator.writeStringField("image", row.getString(4));
+
+            long authorId = row.getLong(5);
+            if (row.wasNull()) {
+                generator.writeNullField("authorId");
+            } else {
+                generator.writeNumberField("authorId", authorId);
+            }
+
+            generator.writeStringField("authorName", row.getString(6));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static final class ExportJob extends JobRunner.Job {
+
+        private final CatalogFileFormat format;
+
+        private volatile long rows;
+
+        private volatile long bytes;
+
+        private ExportJob(CatalogFileFormat format) {
+            this.format = format;
+        }
+
+        private String fileName() {
+            return "books-" + id + "." + format.getExtension() + ".gz";
+        }
+
+        private ExportJobResponse toResponse() {
+            return ExportJobResponse.builder()
+                    .id(id)
+                    .format(format)
+                    .status(status)
+                    .rows(rows)
+                    .bytes(bytes)
+                    .fileName(fileName())
+                    .error(error)
+                    .createdAt(createdAt)
+                    .completedAt(completedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,523 @@
+package com.dev.bookstore.services.impl;
+
+import com.dev.bookstore.config.ImportProperties;
+import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.domain.projections.AuthorSummaryProjection;
+import com.dev.bookstore.domain.requests.AuthorSummary;
+import com.dev.bookstore.domain.requests.BookSummary;
+import com.dev.bookstore.domain.requests.CatalogFileFormat;
+import com.dev.bookstore.domain.response.BookResponse;
+import com.dev.bookstore.domain.response.BookUpsertResult;
+import com.dev.bookstore.domain.response.BookUpsertStatus;
+import com.dev.bookstore.domain.response.ImportJobResponse;
+import com.dev.bookstore.domain.response.JobStatus;
+import com.dev.bookstore.repositories.AuthorRepository;
+import com.dev.bookstore.services.AuthorService;
+import com.dev.bookstore.services.BookService;
+import com.dev.bookstore.services.ImportService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.zip.GZIPInputStream;
+
+@Slf4j
+@Service
+public class ImportServiceImpl implements ImportService {
+
+    private static final String[] ERROR_COLUMNS = {"line", "isbn", "error"};
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final BookService bookService;
+
+    private final AuthorService authorService;
+
+    private final AuthorRepository authorRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final ImportProperties properties;
+
+    private final JobRunner<ImportJob> jobs;
+
+    public ImportServiceImpl(
+            BookService bookService,
+            AuthorService authorService,
+            AuthorRepository authorRepository,
+            ObjectMapper objectMapper,
+            ImportProperties properties
+    ) {
+        this.bookService = bookService;
+        this.authorService = authorService;
+        this.authorRepository = authorRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.jobs = new JobRunner<>("import", properties.getMaxConcurrentJobs(), properties.getMaxQueuedJobs());
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(properties.getDirectory());
+    }
+
+    @PreDestroy
+    public void close() {
+        jobs.close();
+    }
+
+    @Override
+    public ImportJobResponse start(CatalogFileFormat format, InputStream content) throws IOException {
+        jobs.ensureCapacity();
+
+        ImportJob job = new ImportJob(format);
+        Path upload = upload(job);
+
+        try {
+            job.totalBytes = copy(content, upload, properties.getMaxUploadSize().toBytes());
+
+            return jobs.submit(job, this::run).toResponse();
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(upload);
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<ImportJobResponse> get(String id) {
+        return jobs.get(id).map(ImportJob::toResponse);
+    }
+
+    @Override
+    public Optional<Path> getErrorReport(String id) {
+        return jobs.get(id)
+                .filter(job -> job.status == JobStatus.COMPLETED || job.status == JobStatus.FAILED)
+                .map(this::errorReport)
+                .filter(Files::exists);
+    }
+
+    @Scheduled(fixedDelayString = "${bookstore.import.cleanup-interval:10m}")
+    public void cleanup() {
+        jobs.cleanup(properties.getRetention(), job -> deleteQuietly(errorReport(job)));
+    }
+
+    private void run(ImportJob job) throws IOException {
+        Path upload = upload(job);
+
+        try (FileChannel channel = FileChannel.open(upload);
+             Writer report = Files.newBufferedWriter(errorReport(job), StandardCharsets.UTF_8)) {
+
+            CsvRecordWriter errors = new CsvRecordWriter(report);
+            errors.write(ERROR_COLUMNS);
+
+            RecordSource records = recordSource(job.format, openDecoded(channel));
+            List<ImportRecord> batch = new ArrayList<>(properties.getBatchSize());
+            ImportRecord record;
+
+            while ((record = records.next()) != null) {
+                job.rows++;
+
+                if (record.error != null) {
+                    fail(job, errors, record, record.error);
+                } else {
+                    batch.add(record);
+                }
+
+                if (batch.size() >= properties.getBatchSize()) {
+                    importBatch(job, errors, batch);
+                    batch.clear();
+                    job.bytesRead = channel.position();
+                }
+            }
+
+            importBatch(job, errors, batch);
+            errors.flush();
+
+            job.bytesRead = job.totalBytes;
+
+            log.info("Imported {} rows from {} ({} created, {} updated, {} failed)",
+                    job.rows, upload, job.created, job.updated, job.failed);
+        } finally {
+            deleteQuietly(upload);
+        }
+    }
+
+    private static long copy(InputStream content, Path upload, long maxBytes) throws IOException {
+        try (OutputStream output = Files.newOutputStream(upload, StandardOpenOption.CREATE_NEW)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long total = 0;
+            int read;
+
+            while ((read = content.read(buffer)) != -1) {
+                total += read;
+
+                if (total > maxBytes) {
+                    throw new MaxUploadSizeExceededException(maxBytes);
+                }
+
+                output.write(buffer, 0, read);
+            }
+
+            return total;
+        }
+    }
+
+    private BufferedReader openDecoded(FileChannel channel) throws IOException {
+        InputStream input = new BufferedInputStream(Channels.newInputStream(channel), BUFFER_SIZE);
+
+        input.mark(2);
+        boolean gzip = input.read() == 0x1f && input.read() == 0x8b;
+        input.reset();
+
+        if (gzip) {
+            input = new GZIPInputStream(input, BUFFER_SIZE);
+        }
+
+        return new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    private RecordSource recordSource(CatalogFileFormat format, BufferedReader reader) throws IOException {
+        return format == CatalogFileFormat.CSV ? new CsvRecordSource(reader) : new JsonlRecordSource(reader);
+    }
+
+    private void importBatch(ImportJob job, CsvRecordWriter errors, List<ImportRecord> batch) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> authorIds = resolveAuthors(batch);
+
+        List<ImportRecord> accepted = new ArrayList<>(batch.size());
+        List<BookSummary> bookSummaries = new ArrayList<>(batch.size());
+
+        for (ImportRecord record : batch) {
+            Long authorId = record.authorId != null ? record.authorId : authorIds.get(record.authorName);
+
+            if (authorId == null) {
+                fail(job, errors, record, record.authorName != null ? "Author not found" : "Author is required");
+                continue;
+            }
+
+            accepted.add(record);
+            bookSummaries.add(BookSummary.builder()
+                    .isbn(record.isbn)
+                    .title(record.title)
+                    .description(record.description)
+                    .image(record.image)
+                    .author(AuthorSummary.builder().id(authorId).build())
+                    .build());
+        }
+
+        List<BookUpsertResult> results;
+
+        try {
+            results = bookService.createUpdateAll(bookSummaries);
+        } catch (RuntimeException e) {
+            log.warn("Import {} batch of {} books failed, retrying row by row", job.id, bookSummaries.size(), e);
+            results = upsertEach(bookSummaries);
+        }
+
+        for (int i = 0; i < results.size(); i++) {
+            BookUpsertResult result = results.get(i);
+
+            switch (result.getStatus()) {
+                case CREATED -> job.created++;
+                case UPDATED -> job.updated++;
+                case FAILED -> fail(job, errors, accepted.get(i), result.getError());
+            }
+        }
+    }
+
+    private Map<String, Long> resolveAuthors(List<ImportRecord> batch) {
+        Set<String> names = new LinkedHashSet<>();
+
+        for (ImportRecord record : batch) {
+            if (record.authorId == null && record.authorName != null) {
+                names.add(record.authorName);
+            }
+        }
+
+        Map<String, Long> authorIds = new HashMap<>();
+
+        if (names.isEmpty()) {
+            return authorIds;
+        }
+
+        for (AuthorSummaryProjection author : authorRepository.findSummariesByNameIn(names)) {
+            authorIds.putIfAbsent(author.getName(), author.getId());
+        }
+
+        List<AuthorEntity> missingAuthors = names.stream()
+                .filter(name -> !authorIds.containsKey(name))
+                .map(name -> AuthorEntity.builder().name(name).build())
+                .toList();
+
+        if (missingAuthors.isEmpty()) {
+            return authorIds;
+        }
+
+        try {
+            authorService.createAll(missingAuthors)
+                    .forEach(author -> authorIds.put(author.getName(), author.getId()));
+        } catch (RuntimeException e) {
+            log.warn("Failed to create {} authors during import", missingAuthors.size(), e);
+        }
+
+        return authorIds;
+    }
+
+    private List<BookUpsertResult> upsertEach(List<BookSummary> bookSummaries) {
+        List<BookUpsertResult> results = new ArrayList<>(bookSummaries.size());
+
+        for (BookSummary bookSummary : bookSummaries) {
+            try {
+                BookResponse response = bookService.createUpdate(bookSummary.getIsbn(), bookSummary);
+
+                results.add(BookUpsertResult.builder()
+                        .isbn(bookSummary.getIsbn())
+                        .status(response.isCreate() ? BookUpsertStatus.CREATED : BookUpsertStatus.UPDATED)
+                        .build());
+            } catch (RuntimeException e) {
+                results.add(BookUpsertResult.builder()
+                        .isbn(bookSummary.getIsbn())
+                        .status(BookUpsertStatus.FAILED)
+                        .error(e.getMessage())
+                        .build());
+            }
+        }
+
+        return results;
+    }
+
+    private static void fail(ImportJob job, CsvRecordWriter errors, ImportRecord record, String error)
+            throws IOException {
+        job.failed++;
+        errors.write(String.valueOf(record.line), record.isbn, error);
+    }
+
+    private Path upload(ImportJob job) {
+        return properties.getDirectory().resolve(job.id + ".upload");
+    }
+
+    private Path errorReport(ImportJob job) {
+        return properties.getDirectory().resolve(job.id + "-errors.csv");
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete {}", path, e);
+        }
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private interface RecordSource {
+
+        ImportRecord next() throws IOException;
+    }
+
+    private static final class CsvRecordSource implements RecordSource {
+
+        private final CsvRecordReader reader;
+
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        private CsvRecordSource(Reader reader) throws IOException {
+            this.reader = new CsvRecordReader(reader);
+
+            List<String> header = this.reader.read();
+
+            if (header == null) {
+                return;
+            }
+
+            for (int i = 0; i < header.size(); i++) {
+                columns.putIfAbsent(header.get(i).replace("\uFEFF", "").trim().toLowerCase(), i);
+            }
+
+            if (!columns.containsKey("isbn")) {
+                throw new IOException("CSV header must contain an isbn column");
+            }
+        }
+
+        @Override
+        public ImportRecord next() throws IOException {
+            List<String> fields;
+
+            do {
+                fields = reader.read();
+            } while (fields != null && fields.size() == 1 && fields.get(0).isBlank());
+
+            if (fields == null) {
+                return null;
+            }
+
+            ImportRecord record = new ImportRecord(reader.recordLine());
+            record.isbn = field(fields, "isbn");
+            record.title = field(fields, "title");
+            record.description = field(fields, "description");
+            record.image = field(fields, "image");
+            record.authorName = field(fields, "author_name");
+
+            String authorId = field(fields, "author_id");
+
+            if (authorId != null) {
+                try {
+                    record.authorId = Long.valueOf(authorId.trim());
+                } catch (NumberFormatException e) {
+                    record.error = "Invalid author_id: " + authorId;
+                }
+            }
+
+            return record;
+        }
+
+        private String field(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            return index != null && index < fields.size() ? emptyToNull(fields.get(index)) : null;
+        }
+    }
+
+    private final class JsonlRecordSource implements RecordSource {
+
+        private final BufferedReader reader;
+
+        private long line;
+
+        private JsonlRecordSource(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ImportRecord next() throws IOException {
+            String text;
+
+            do {
+                text = reader.readLine();
+                line++;
+            } while (text != null && text.isBlank());
+
+            if (text == null) {
+                return null;
+            }
+
+            ImportRecord record = new ImportRecord(line);
+            JsonNode node;
+
+            try {
+                node = objectMapper.readTree(text);
+            } catch (JsonProcessingException e) {
+                record.error = "Malformed JSON: " + e.getOriginalMessage();
+                return record;
+            }
+
+            if (!node.isObject()) {
+                record.error = "Expected a JSON object";
+                return record;
+            }
+
+            record.isbn = text(node, "isbn");
+            record.title = text(node, "title");
+            record.description = text(node, "description");
+            record.image = text(node, "image");
+            record.authorName = text(node, "authorName");
+
+            JsonNode authorId = node.get("authorId");
+
+            if (authorId != null && !authorId.isNull()) {
+                if (authorId.canConvertToExactIntegral() || authorId.isTextual() && authorId.asText().matches("\\d+")) {
+                    record.authorId = authorId.asLong();
+                } else {
+                    record.error = "Invalid authorId: " + authorId;
+                }
+            }
+
+            return record;
+        }
+
+        private String text(JsonNode node, String field) {
+            JsonNode value = node.get(field);
+            return value != null && !value.isNull() ? emptyToNull(value.asText()) : null;
+        }
+    }
+
+    private static final class ImportRecord {
+
+        private final long line;
+
+        private String isbn;
+
+        private String title;
+
+        private String description;
+
+        private String image;
+
+        private Long authorId;
+
+        private String authorName;
+
+        private String error;
+
+        private ImportRecord(long line) {
+            this.line = line;
+        }
+    }
+
+    private static final class ImportJob extends JobRunner.Job {
+
+        private final CatalogFileFormat format;
+
+        private volatile long bytesRead;
+
+        private volatile long totalBytes;
+
+        private volatile long rows;
+
+        private volatile long created;
+
+        private volatile long updated;
+
+        private volatile long failed;
+
+        private ImportJob(CatalogFileFormat format) {
+            this.format = format;
+        }
+
+        private ImportJobResponse toResponse() {
+            return ImportJobResponse.builder()
+                    .id(id)
+                    .format(format)
+                    .status(status)
+                    .bytesRead(bytesRead)
+                    .totalBytes(totalBytes)
+                    .progress(totalBytes > 0 ? (double) bytesRead / totalBytes : 0)
+                    .rows(rows)
+                    .created(created)
+                    .updated(updated)
+                    .failed(failed)
+                    .error(error)
+                    .createdAt(createdAt)
+                    .completedAt(completedAt)
+                    .build();
+        }
+    }
+}
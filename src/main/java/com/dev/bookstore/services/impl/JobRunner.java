@@ -0,0 +1,125 @@
+package com.dev.bookstore.services.impl;
+
+import com.dev.bookstore.domain.response.JobStatus;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+@Slf4j
+final class JobRunner<J extends JobRunner.Job> {
+
+    private final String name;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Map<String, J> jobs = new ConcurrentHashMap<>();
+
+    JobRunner(String name, int maxConcurrentJobs, int maxQueuedJobs) {
+        this.name = name;
+
+        BlockingQueue<Runnable> queue = maxQueuedJobs > 0
+                ? new ArrayBlockingQueue<>(maxQueuedJobs)
+                : new SynchronousQueue<>();
+
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs, 0L, TimeUnit.MILLISECONDS, queue,
+                runnable -> {
+                    Thread thread = new Thread(runnable, name + "-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    J submit(J job, Task<J> task) {
+        jobs.put(job.id, job);
+
+        try {
+            executor.execute(() -> run(job, task));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            throw e;
+        }
+
+        return job;
+    }
+
+    void ensureCapacity() {
+        if (executor.getQueue().remainingCapacity() == 0 && executor.getActiveCount() >= executor.getMaximumPoolSize()) {
+            throw new RejectedExecutionException("Too many " + name + " jobs");
+        }
+    }
+
+    Optional<J> get(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    void cleanup(Duration retention) {
+        cleanup(retention, job -> {
+        });
+    }
+
+    void cleanup(Duration retention, Consumer<J> onExpired) {
+        Instant expiredBefore = Instant.now().minus(retention);
+
+        jobs.values().removeIf(job -> {
+            if (job.completedAt == null || job.completedAt.isAfter(expiredBefore)) {
+                return false;
+            }
+
+            onExpired.accept(job);
+            return true;
+        });
+    }
+
+    void close() {
+        executor.shutdownNow();
+    }
+
+    private void run(J job, Task<J> task) {
+        job.status = JobStatus.RUNNING;
+
+        try {
+            task.run(job);
+            job.status = JobStatus.COMPLETED;
+        } catch (Exception e) {
+            job.error = e.getMessage();
+            job.status = JobStatus.FAILED;
+
+            log.error("{} job {} failed", name, job.id, e);
+        } finally {
+            job.completedAt = Instant.now();
+        }
+    }
+
+    @FunctionalInterface
+    interface Task<J> {
+        void run(J job) throws Exception;
+    }
+
+    abstract static class Job {
+
+        final String id = UUID.randomUUID().toString();
+
+        final Instant createdAt = Instant.now();
+
+        volatile JobStatus status = JobStatus.PENDING;
+
+        volatile String error;
+
+        volatile Instant completedAt;
+    }
+}
@@ -0,0 +1,270 @@
+package com.dev.bookstore.services.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.function.LongBinaryOperator;
+
+final class OffHeapLongLongMap {
+
+    private static final int SEGMENT_BITS = 6;
+
+    private static final int SLOT_BYTES = 16;
+
+    private static final int MIN_SEGMENT_SLOTS = 16;
+
+    private static final int MAX_SEGMENT_SLOTS = 1 << 26;
+
+    private static final double LOAD_FACTOR = 0.75;
+
+    private final Segment[] segments = new Segment[1 << SEGMENT_BITS];
+
+    OffHeapLongLongMap(long expectedEntries) {
+        long perSegment = (long) Math.ceil(expectedEntries / LOAD_FACTOR / segments.length);
+        int slots = MIN_SEGMENT_SLOTS;
+
+        while (slots < perSegment && slots < MAX_SEGMENT_SLOTS) {
+            slots <<= 1;
+        }
+
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment(slots);
+        }
+    }
+
+    long get(long key, long missingValue) {
+        if (key == 0) {
+            return missingValue;
+        }
+
+        long hash = hash(key);
+        return segment(hash).get(key, hash, missingValue);
+    }
+
+    boolean containsKey(long key) {
+        if (key == 0) {
+            return false;
+        }
+
+        long hash = hash(key);
+        return segment(hash).indexOf(key, hash) >= 0;
+    }
+
+    long put(long key, long value, long missingValue) {
+        if (key == 0) {
+            throw new IllegalArgumentException("0 is reserved for empty slots");
+        }
+
+        long hash = hash(key);
+        return segment(hash).put(key, hash, value, missingValue);
+    }
+
+    long remove(long key, long missingValue) {
+        if (key == 0) {
+            return missingValue;
+        }
+
+        long hash = hash(key);
+        return segment(hash).remove(key, hash, missingValue);
+    }
+
+    void forEach(LongBinaryConsumer consumer) {
+        for (Segment segment : segments) {
+            segment.forEach(consumer);
+        }
+    }
+
+    void replaceAll(LongBinaryOperator function) {
+        for (Segment segment : segments) {
+            segment.replaceAll(function);
+        }
+    }
+
+    long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    long offHeapBytes() {
+        long bytes = 0;
+        for (Segment segment : segments) {
+            bytes += segment.slots.capacity();
+        }
+        return bytes;
+    }
+
+    private Segment segment(long hash) {
+        return segments[(int) (hash >>> (Long.SIZE - SEGMENT_BITS))];
+    }
+
+    private static long hash(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    @FunctionalInterface
+    interface LongBinaryConsumer {
+        void accept(long key, long value);
+    }
+
+    private static final class Segment {
+
+        private ByteBuffer slots;
+
+        private int mask;
+
+        private int size;
+
+        private Segment(int capacity) {
+            allocate(capacity);
+        }
+
+        private long get(long key, long hash, long missingValue) {
+            int index = indexOf(key, hash);
+            return index >= 0 ? valueAt(index) : missingValue;
+        }
+
+        private int indexOf(long key, long hash) {
+            int index = (int) hash & mask;
+
+            while (true) {
+                long existing = keyAt(index);
+
+                if (existing == key) {
+                    return index;
+                }
+                if (existing == 0) {
+                    return -1;
+                }
+
+                index = (index + 1) & mask;
+            }
+        }
+
+        private long put(long key, long hash, long value, long missingValue) {
+            int index = (int) hash & mask;
+
+            while (true) {
+                long existing = keyAt(index);
+
+                if (existing == key) {
+                    long previous = valueAt(index);
+                    slots.putLong(index * SLOT_BYTES + Long.BYTES, value);
+                    return previous;
+                }
+                if (existing == 0) {
+                    break;
+                }
+
+                index = (index + 1) & mask;
+            }
+
+            if (size + 1 > (mask + 1) * LOAD_FACTOR) {
+                grow();
+                return put(key, hash, value, missingValue);
+            }
+
+            slots.putLong(index * SLOT_BYTES, key);
+            slots.putLong(index * SLOT_BYTES + Long.BYTES, value);
+            size++;
+
+            return missingValue;
+        }
+
+        private long remove(long key, long hash, long missingValue) {
+            int hole = indexOf(key, hash);
+
+            if (hole < 0) {
+                return missingValue;
+            }
+
+            long previous = valueAt(hole);
+            int index = hole;
+
+            while (true) {
+                index = (index + 1) & mask;
+                long candidate = keyAt(index);
+
+                if (candidate == 0) {
+                    break;
+                }
+
+                int home = (int) hash(candidate) & mask;
+                boolean movable = hole <= index
+                        ? home <= hole || home > index
+                        : home <= hole && home > index;
+
+                if (movable) {
+                    slots.putLong(hole * SLOT_BYTES, candidate);
+                    slots.putLong(hole * SLOT_BYTES + Long.BYTES, valueAt(index));
+                    hole = index;
+                }
+            }
+
+            slots.putLong(hole * SLOT_BYTES, 0L);
+            slots.putLong(hole * SLOT_BYTES + Long.BYTES, 0L);
+            size--;
+
+            return previous;
+        }
+
+        private void forEach(LongBinaryConsumer consumer) {
+            for (int index = 0; index <= mask; index++) {
+                long key = keyAt(index);
+
+                if (key != 0) {
+                    consumer.accept(key, valueAt(index));
+                }
+            }
+        }
+
+        private void replaceAll(LongBinaryOperator function) {
+            for (int index = 0; index <= mask; index++) {
+                long key = keyAt(index);
+
+                if (key != 0) {
+                    slots.putLong(index * SLOT_BYTES + Long.BYTES, function.applyAsLong(key, valueAt(index)));
+                }
+            }
+        }
+
+        private void grow() {
+            if (mask + 1 >= MAX_SEGMENT_SLOTS) {
+                throw new IllegalStateException("Off-heap map segment is full");
+            }
+
+            ByteBuffer previous = slots;
+            int previousCapacity = mask + 1;
+
+            allocate(previousCapacity << 1);
+            size = 0;
+
+            for (int index = 0; index < previousCapacity; index++) {
+                long key = previous.getLong(index * SLOT_BYTES);
+
+                if (key != 0) {
+                    put(key, hash(key), previous.getLong(index * SLOT_BYTES + Long.BYTES), 0L);
+                }
+            }
+        }
+
+        private void allocate(int capacity) {
+            slots = ByteBuffer.allocateDirect(capacity * SLOT_BYTES).order(ByteOrder.nativeOrder());
+            mask = capacity - 1;
+        }
+
+        private long keyAt(int index) {
+            return slots.getLong(index * SLOT_BYTES);
+        }
+
+        private long valueAt(int index) {
+            return slots.getLong(index * SLOT_BYTES + Long.BYTES);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.dev.bookstore.services.impl;
+
+import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.repositories.ReactiveAuthorRepository;
+import com.dev.bookstore.services.ReactiveAuthorService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveAuthorServiceImpl implements ReactiveAuthorService {
+
+    private final ReactiveAuthorRepository reactiveAuthorRepository;
+
+    @Override
+    public Flux<AuthorEntity> list(Long after, Integer limit) {
+        return reactiveAuthorRepository.findAll(after != null ? after : 0L, limit);
+    }
+
+    @Override
+    public Mono<AuthorEntity> get(Long id) {
+        return reactiveAuthorRepository.findById(id);
+    }
+}
@@ -0,0 +1,26 @@
+package com.dev.bookstore.services.impl;
+
+import com.dev.bookstore.domain.projections.BookSummaryProjection;
+import com.dev.bookstore.repositories.ReactiveBookRepository;
+import com.dev.bookstore.services.ReactiveBookService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveBookServiceImpl implements ReactiveBookService {
+
+    private final ReactiveBookRepository reactiveBookRepository;
+
+    @Override
+    public Flux<BookSummaryProjection> list(Long authorId, String after, Integer limit) {
+        return reactiveBookRepository.findSummaries(authorId, after != null ? after : "", limit);
+    }
+
+    @Override
+    public Mono<BookSummaryProjection> get(String isbn) {
+        return reactiveBookRepository.findSummaryByIsbn(isbn);
+    }
+}
@@ -0,0 +1,208 @@
+package com.dev.bookstore.services.impl;
+
+import com.dev.bookstore.config.ResponseCacheProperties;
+import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.domain.entities.BookEntity;
+import com.dev.bookstore.domain.events.AuthorChangedEvent;
+import com.dev.bookstore.domain.events.BookChangedEvent;
+import com.dev.bookstore.domain.projections.BookSummaryEntry;
+import com.dev.bookstore.mappers.impl.AuthorMapper;
+import com.dev.bookstore.services.ResponseBodyCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.Value;
+import org.ehcache.Cache;
+import org.ehcache.CacheManager;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.CacheEventListenerConfigurationBuilder;
+import org.ehcache.config.builders.CacheManagerBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.event.CacheEvent;
+import org.ehcache.event.CacheEventListener;
+import org.ehcache.event.EventType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+@Service
+public class ResponseBodyCacheImpl implements ResponseBodyCache, MeterBinder {
+
+    static final String BOOKS_CACHE = "book-responses";
+
+    static final String AUTHORS_CACHE = "author-responses";
+
+    private final ObjectMapper objectMapper;
+
+    private final AuthorMapper authorMapper;
+
+    private final boolean enabled;
+
+    private final CacheManager cacheManager;
+
+    private final BodyCache<String> books;
+
+    private final BodyCache<Long> authors;
+
+    public ResponseBodyCacheImpl(
+            ObjectMapper objectMapper,
+            AuthorMapper authorMapper,
+            ResponseCacheProperties properties
+    ) {
+        this.objectMapper = objectMapper;
+        this.authorMapper = authorMapper;
+        this.enabled = properties.isEnabled();
+        this.cacheManager = CacheManagerBuilder.newCacheManagerBuilder().build(true);
+        this.books = new BodyCache<>(cacheManager, BOOKS_CACHE, String.class, properties.getBookMaxEntries());
+        this.authors = new BodyCache<>(cacheManager, AUTHORS_CACHE, Long.class, properties.getAuthorMaxEntries());
+    }
+
+    @PreDestroy
+    public void close() {
+        cacheManager.close();
+    }
+
+    @Override
+    public byte[] getBook(BookSummaryEntry book) {
+        String version = book.getVersion() + "-" + book.getAuthorId() + "." + book.getAuthorVersion();
+
+        return books.get(book.getIsbn(), version, () -> serialize(book.getSummary()));
+    }
+
+    @Override
+    public byte[] getAuthor(AuthorEntity author) {
+        String version = String.valueOf(Objects.requireNonNullElse(author.getVersion(), 0L));
+
+        return authors.get(author.getId(), version, () -> serialize(authorMapper.toDto(author)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        event.getSavedBooks().stream().map(BookEntity::getIsbn).forEach(books::remove);
+        event.getPatchedBooks().stream().map(BookEntity::getIsbn).forEach(books::remove);
+        event.getDeletedIsbns().forEach(books::remove);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuthorChanged(AuthorChangedEvent event) {
+        authors.remove(event.getAuthorId());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        books.bindTo(registry);
+        authors.bindTo(registry);
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Value
+    static class SerializedBody {
+        String version;
+        byte[] json;
+    }
+
+    private class BodyCache<K> implements CacheEventListener<K, SerializedBody> {
+
+        private final String name;
+
+        private final Cache<K, SerializedBody> cache;
+
+        private final LongAdder hits = new LongAdder();
+
+        private final LongAdder misses = new LongAdder();
+
+        private final LongAdder entries = new LongAdder();
+
+        private final LongAdder bytes = new LongAdder();
+
+        private BodyCache(CacheManager cacheManager, String name, Class<K> keyType, long maxEntries) {
+            this.name = name;
+            this.cache = cacheManager.createCache(name, CacheConfigurationBuilder
+                    .newCacheConfigurationBuilder(keyType, SerializedBody.class, ResourcePoolsBuilder.heap(maxEntries))
+                    .withService(CacheEventListenerConfigurationBuilder
+                            .newEventListenerConfiguration(this, EnumSet.allOf(EventType.class))
+                            .synchronous()
+                            .ordered()));
+        }
+
+        private byte[] get(K key, String version, Supplier<byte[]> serializer) {
+            if (!enabled) {
+                return serializer.get();
+            }
+
+            SerializedBody cached = cache.get(key);
+
+            if (cached != null && cached.getVersion().equals(version)) {
+                hits.increment();
+                return cached.getJson();
+            }
+
+            misses.increment();
+
+            byte[] json = serializer.get();
+            cache.put(key, new SerializedBody(version, json));
+
+            return json;
+        }
+
+        private void remove(K key) {
+            cache.remove(key);
+        }
+
+        @Override
+        public void onEvent(CacheEvent<? extends K, ? extends SerializedBody> event) {
+            if (event.getOldValue() != null) {
+                entries.decrement();
+                bytes.add(-event.getOldValue().getJson().length);
+            }
+            if (event.getNewValue() != null) {
+                entries.increment();
+                bytes.add(event.getNewValue().getJson().length);
+            }
+        }
+
+        private void bindTo(MeterRegistry registry) {
+            FunctionCounter.builder("bookstore.response.cache.gets", hits, LongAdder::sum)
+                    .tag("cache", name)
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("bookstore.response.cache.gets", misses, LongAdder::sum)
+                    .tag("cache", name)
+                    .tag("result", "miss")
+                    .register(registry);
+            Gauge.builder("bookstore.response.cache.hit.ratio", this, BodyCache::hitRatio)
+                    .tag("cache", name)
+                    .register(registry);
+            Gauge.builder("bookstore.response.cache.entries", entries, LongAdder::sum)
+                    .tag("cache", name)
+                    .register(registry);
+            Gauge.builder("bookstore.response.cache.bytes", bytes, LongAdder::sum)
+                    .tag("cache", name)
+                    .baseUnit("bytes")
+                    .register(registry);
+        }
+
+        private double hitRatio() {
+            long hitCount = hits.sum();
+            long total = hitCount + misses.sum();
+
+            return total == 0 ? 0.0 : (double) hitCount / total;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.dev.bookstore.services.impl;
+
+import com.dev.bookstore.TestDataUtil;
+import com.dev.bookstore.domain.response.BookResponse;
+import com.dev.bookstore.services.AuthorService;
+import com.dev.bookstore.services.BookCountService;
+import com.dev.bookstore.services.BookService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@Testcontainers(disabledWithoutDocker = true)
+public class BookServiceImplMySqlTest {
+
+    private static final String ISBN = "978-6000000001";
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.36");
+
+    private final BookService underTest;
+
+    private final AuthorService authorService;
+
+    private final BookCountService bookCountService;
+
+    @Autowired
+    public BookServiceImplMySqlTest(BookService underTest, AuthorService authorService, BookCountService bookCountService) {
+        this.underTest = underTest;
+        this.authorService = authorService;
+        this.bookCountService = bookCountService;
+    }
+
+    @DynamicPropertySource
+    static void mySqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+    }
+
+    @Test
+    public void testThatNativeUpsertsAndDeletesKeepVersionsAndCountsOnMySql() {
+        Long firstAuthorId = authorService.create(TestDataUtil.createTestAuthorEntity()).getId();
+        Long secondAuthorId = authorService.create(TestDataUtil.createTestAuthorEntity()).getId();
+
+        BookResponse created = underTest.createUpdate(ISBN, TestDataUtil.testBookSummary(
+                ISBN, TestDataUtil.testAuthorSummary(firstAuthorId)
+        ));
+        BookResponse updated = underTest.createUpdate(ISBN, TestDataUtil.testUpdatedBookSummary(
+                ISBN, TestDataUtil.testAuthorSummary(firstAuthorId)
+        ));
+
+        assertThat(created.isCreate()).isTrue();
+        assertThat(created.getBook().getVersion()).isZero();
+        assertThat(updated.isCreate()).isFalse();
+        assertThat(updated.getBook().getVersion()).isEqualTo(1L);
+        assertThat(underTest.get(ISBN).getTitle()).isEqualTo(updated.getBook().getTitle());
+        assertThat(bookCountService.getBookCount(firstAuthorId)).isEqualTo(1L);
+
+        underTest.createUpdate(ISBN, TestDataUtil.testBookSummary(ISBN, TestDataUtil.testAuthorSummary(secondAuthorId)));
+
+        assertThat(bookCountService.getBookCount(firstAuthorId)).isZero();
+        assertThat(bookCountService.getBookCount(secondAuthorId)).isEqualTo(1L);
+
+        assertThatThrownBy(() -> underTest.createUpdate(ISBN, TestDataUtil.testBookSummary(
+                ISBN, TestDataUtil.testAuthorSummary(Long.MAX_VALUE)
+        ))).isInstanceOf(IllegalStateException.class);
+
+        underTest.delete(ISBN);
+
+        assertThat(bookCountService.getBookCount(secondAuthorId)).isZero();
+        assertThatThrownBy(() -> underTest.get(ISBN)).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -5,11 +5,15 @@ import com.dev.bookstore.domain.dto.AuthorSummaryDto;
 import com.dev.bookstore.domain.dto.BookSummaryDto;
 import com.dev.bookstore.domain.entities.AuthorEntity;
 import com.dev.bookstore.domain.entities.BookEntity;
+import com.dev.bookstore.domain.projections.BookSummaryEntry;
+import com.dev.bookstore.domain.projections.BookSummaryProjection;
 import com.dev.bookstore.domain.requests.AuthorSummary;
 import com.dev.bookstore.domain.requests.BookSummary;
 
 import java.util.ArrayList;
 
+import java.util.Objects;
+
 public class TestDataUtil {
 
     public static AuthorDto createTestAuthorDto() {
@@ -155,6 +159,43 @@ public class TestDataUtil {
                 .build();
     }
 
+    public static BookSummaryProjection testBookSummaryProjection(BookEntity book) {
+        return new BookSummaryProjection(
+                book.getIsbn(),
+                book.getTitle(),
+                book.getDescription(),
+                book.getImage(),
+                book.getVersion(),
+                book.getAuthor().getId(),
+                book.getAuthor().getName(),
+                book.getAuthor().getImage(),
+                book.getAuthor().getVersion()
+        );
+    }
+
+    public static BookSummaryEntry testBookSummaryEntry(BookEntity book) {
+        AuthorEntity author = book.getAuthor();
+
+        BookSummaryDto summary = BookSummaryDto.builder()
+                .isbn(book.getIsbn())
+                .title(book.getTitle())
+                .description(book.getDescription())
+                .image(book.getImage())
+                .author(AuthorSummaryDto.builder()
+                        .id(author.getId())
+                        .name(author.getName())
+                        .image(author.getImage())
+                        .build())
+                .build();
+
+        return new BookSummaryEntry(
+                summary,
+                Objects.requireNonNullElse(book.getVersion(), 0L),
+                author.getId(),
+                Objects.requireNonNullElse(author.getVersion(), 0L)
+        );
+    }
+
     public static BookSummaryDto testBookSummaryDto(String isbn, AuthorSummaryDto authorSummaryDto) {
         return BookSummaryDto.builder()
                 .isbn(isbn)
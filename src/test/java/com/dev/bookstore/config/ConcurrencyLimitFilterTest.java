@@ -0,0 +1,50 @@
+package com.dev.bookstore.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ConcurrencyLimitFilterTest {
+
+    @Test
+    public void testThatRequestsOverTheLimitAreRejectedWithHTTP503() throws Exception {
+        ConcurrencyLimitFilter underTest = new ConcurrencyLimitFilter(1, Duration.ZERO);
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        MockHttpServletResponse accepted = new MockHttpServletResponse();
+
+        underTest.doFilter(new MockHttpServletRequest("GET", "/books"), accepted, (request, response) -> {
+            assertThat(underTest.getAvailablePermits()).isZero();
+
+            underTest.doFilter(new MockHttpServletRequest("GET", "/books"), rejected, (nested, nestedResponse) -> {
+                throw new AssertionError("The second request must not reach the handler");
+            });
+        });
+
+        assertThat(accepted.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(rejected.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    }
+
+    @Test
+    public void testThatPermitIsReleasedWhenTheHandlerFails() {
+        ConcurrencyLimitFilter underTest = new ConcurrencyLimitFilter(1, Duration.ZERO);
+
+        assertThatThrownBy(() -> underTest.doFilter(
+                new MockHttpServletRequest("GET", "/books"),
+                new MockHttpServletResponse(),
+                (request, response) -> {
+                    throw new IllegalStateException("Book not found");
+                }
+        )).isInstanceOf(IllegalStateException.class);
+
+        assertThat(underTest.getAvailablePermits()).isEqualTo(1);
+    }
+}
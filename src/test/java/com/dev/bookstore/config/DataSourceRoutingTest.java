@@ -0,0 +1,169 @@
+package com.dev.bookstore.config;
+
+import com.dev.bookstore.TestDataUtil;
+import com.dev.bookstore.domain.dto.AuthorDto;
+import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.services.AuthorService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + DataSourceRoutingTest.PRIMARY_URL,
+        "bookstore.datasource-routing.enabled=true",
+        "bookstore.datasource-routing.max-lag=2s",
+        "bookstore.datasource-routing.lag-query=select lag_seconds from replica_lag",
+        "bookstore.datasource-routing.replica.url=" + DataSourceRoutingTest.REPLICA_URL,
+        "bookstore.datasource-routing.replica.username=sa",
+        "bookstore.datasource-routing.replica.password=password",
+        "bookstore.datasource-routing.replica.driver-class-name=org.h2.Driver"
+})
+@AutoConfigureMockMvc
+public class DataSourceRoutingTest {
+
+    static final String PRIMARY_URL =
+            "jdbc:h2:mem:routing-primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH";
+
+    static final String REPLICA_URL =
+            "jdbc:h2:mem:routing-replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    private static final String REPLICA_AUTHOR = "Replica Only Author";
+
+    private final AuthorService authorService;
+
+    private final ReadYourWritesFilter readYourWrites;
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    private final JdbcTemplate primary;
+
+    private final JdbcTemplate replica;
+
+    private final MeterRegistry meterRegistry;
+
+    private final MockMvc mockMvc;
+
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public DataSourceRoutingTest(
+            AuthorService authorService,
+            ReadYourWritesFilter readYourWrites,
+            ReplicaLagMonitor lagMonitor,
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            MeterRegistry meterRegistry,
+            MockMvc mockMvc,
+            ObjectMapper objectMapper
+    ) {
+        this.authorService = authorService;
+        this.readYourWrites = readYourWrites;
+        this.lagMonitor = lagMonitor;
+        this.primary = new JdbcTemplate(primaryDataSource);
+        this.replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", "password"));
+        this.meterRegistry = meterRegistry;
+        this.mockMvc = mockMvc;
+        this.objectMapper = objectMapper;
+    }
+
+    @BeforeEach
+    public void beforeEach() {
+        replica.execute("drop all objects");
+        primary.queryForList("script nodata", String.class).stream()
+                .filter(statement -> statement.startsWith("CREATE"))
+                .forEach(replica::execute);
+
+        replica.execute("create table replica_lag (lag_seconds int)");
+        replica.update("insert into replica_lag values (0)");
+        replica.update("insert into authors (id, name, age, version) values (90001, ?, 40, 0)", REPLICA_AUTHOR);
+
+        lagMonitor.refresh();
+        readYourWrites.reset();
+    }
+
+    @Test
+    public void testThatReadOnlyServiceMethodsReadFromTheReplica() {
+        double replicaRoutes = routed(ReadWriteRoutingDataSource.REPLICA);
+
+        List<AuthorEntity> authors = authorService.list();
+
+        assertThat(authors).extracting(AuthorEntity::getName).containsExactly(REPLICA_AUTHOR);
+        assertThat(routed(ReadWriteRoutingDataSource.REPLICA)).isGreaterThan(replicaRoutes);
+        assertThat(meterRegistry.find("hikaricp.connections.max").tag("pool", "replica").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.max").tag("pool", "primary").gauge()).isNotNull();
+    }
+
+    @Test
+    public void testThatWritesOutsideARequestDoNotPinTheThreadToThePrimary() {
+        AuthorEntity created = authorService.create(TestDataUtil.createTestAuthorEntity());
+
+        assertThat(readYourWrites.isPinnedToPrimary()).isFalse();
+        assertThat(authorService.list()).extracting(AuthorEntity::getId).doesNotContain(created.getId());
+
+        authorService.delete(created.getId());
+    }
+
+    @Test
+    public void testThatReadsFallBackToThePrimaryWhenReplicaLagExceedsTheTolerance() {
+        replica.update("update replica_lag set lag_seconds = 10");
+        lagMonitor.refresh();
+
+        assertThat(lagMonitor.isReplicaAvailable()).isFalse();
+        assertThat(meterRegistry.get("bookstore.datasource.replica.available").gauge().value()).isZero();
+        assertThat(authorService.list()).extracting(AuthorEntity::getName).doesNotContain(REPLICA_AUTHOR);
+
+        replica.update("update replica_lag set lag_seconds = 1");
+        lagMonitor.refresh();
+
+        assertThat(authorService.list()).extracting(AuthorEntity::getName).containsExactly(REPLICA_AUTHOR);
+    }
+
+    @Test
+    public void testThatAWriteRequestPinsTheClientToThePrimaryWithACookie() throws Exception {
+        MvcResult result = mockMvc.perform(
+                        MockMvcRequestBuilders
+                                .post("/authors")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(TestDataUtil.createTestAuthorDto()))
+                )
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.cookie().exists(ReadYourWritesFilter.COOKIE_NAME))
+                .andReturn();
+
+        Cookie cookie = result.getResponse().getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        Long createdId = objectMapper.readValue(result.getResponse().getContentAsString(), AuthorDto.class).getId();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/authors").cookie(cookie))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[*].id").value(hasItem(createdId.intValue())));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/authors"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[*].id").value(not(hasItem(createdId.intValue()))));
+
+        authorService.delete(createdId);
+    }
+
+    private double routed(String pool) {
+        return meterRegistry.get(ReadWriteRoutingDataSource.ROUTED_CONNECTIONS).tag("pool", pool).counter().count();
+    }
+}
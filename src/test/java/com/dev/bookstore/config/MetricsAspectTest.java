@@ -0,0 +1,102 @@
+package com.dev.bookstore.config;
+
+import com.dev.bookstore.TestDataUtil;
+import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.mappers.impl.AuthorMapper;
+import com.dev.bookstore.services.AuthorService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.containsString;
+
+@SpringBootTest(properties = "management.endpoints.web.exposure.include=prometheus")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+public class MetricsAspectTest {
+
+    private final MockMvc mockMvc;
+
+    private final MeterRegistry meterRegistry;
+
+    private final AuthorService authorService;
+
+    private final AuthorMapper authorMapper;
+
+    @Autowired
+    public MetricsAspectTest(
+            MockMvc mockMvc,
+            MeterRegistry meterRegistry,
+            AuthorService authorService,
+            AuthorMapper authorMapper
+    ) {
+        this.mockMvc = mockMvc;
+        this.meterRegistry = meterRegistry;
+        this.authorService = authorService;
+        this.authorMapper = authorMapper;
+    }
+
+    @Test
+    public void testThatServiceAndRepositoryCallsAreMeasuredButMappersAreNot() {
+        AuthorEntity author = authorService.create(TestDataUtil.createTestAuthorEntity());
+
+        try {
+            List<AuthorEntity> authors = authorService.list();
+            authorMapper.toDto(author);
+
+            assertThat(timer(MetricsAspect.SERVICE_TIMER, "AuthorServiceImpl", "list").count()).isPositive();
+            assertThat(meterRegistry.find("bookstore.mapper").timers()).isEmpty();
+
+            DistributionSummary rows = meterRegistry.get(MetricsAspect.REPOSITORY_ROWS)
+                    .tag("repository", "AuthorRepository")
+                    .tag("method", "findAll")
+                    .summary();
+            assertThat(rows.max()).isGreaterThanOrEqualTo(authors.size());
+        } finally {
+            authorService.delete(author.getId());
+        }
+    }
+
+    @Test
+    public void testThatFailedServiceCallsAreTaggedWithTheException() {
+        assertThatThrownBy(() -> authorService.fullUpdate(Long.MAX_VALUE, TestDataUtil.createTestAuthorEntity()))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(meterRegistry.get(MetricsAspect.SERVICE_TIMER)
+                .tag("method", "fullUpdate")
+                .tag("exception", "IllegalStateException")
+                .timer()
+                .count()).isPositive();
+    }
+
+    @Test
+    public void testThatMetricsAreExposedInPrometheusFormat() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/authors"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().string(containsString("http_server_requests_seconds_count{")))
+                .andExpect(MockMvcResultMatchers.content().string(containsString("uri=\"/authors\"")))
+                .andExpect(MockMvcResultMatchers.content().string(containsString("bookstore_service_seconds_count{")))
+                .andExpect(MockMvcResultMatchers.content().string(containsString("spring_data_repository_invocations_seconds_count{")))
+                .andExpect(MockMvcResultMatchers.content().string(containsString("hikaricp_connections_active")))
+                .andExpect(MockMvcResultMatchers.content().string(containsString("hibernate_sessions_open_total{")));
+    }
+
+    private Timer timer(String name, String type, String method) {
+        return meterRegistry.get(name).tag("class", type).tag("method", method).timer();
+    }
+}
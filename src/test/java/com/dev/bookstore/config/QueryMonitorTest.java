@@ -0,0 +1,164 @@
+package com.dev.bookstore.config;
+
+import com.dev.bookstore.repositories.AuthorRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "bookstore.query-monitor.max-queries=3",
+        "bookstore.query-monitor.max-repeated-statements=2"
+})
+@AutoConfigureMockMvc
+public class QueryMonitorTest {
+
+    private final QueryMonitor underTest;
+
+    private final AuthorRepository authorRepository;
+
+    private final MeterRegistry meterRegistry;
+
+    private final MockMvc mockMvc;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public QueryMonitorTest(
+            QueryMonitor underTest,
+            AuthorRepository authorRepository,
+            MeterRegistry meterRegistry,
+            MockMvc mockMvc,
+            JdbcTemplate jdbcTemplate
+    ) {
+        this.underTest = underTest;
+        this.authorRepository = authorRepository;
+        this.meterRegistry = meterRegistry;
+        this.mockMvc = mockMvc;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Test
+    public void testThatRepeatedStatementsAreAttributedAndFlagged() {
+        underTest.begin("TestController.loadOneByOne");
+
+        LongStream.rangeClosed(1, 5).forEach(i -> authorRepository.findById(Long.MAX_VALUE - i));
+
+        QueryMonitor.QueryStats stats = underTest.end();
+
+        assertThat(stats.getQueries()).isEqualTo(5);
+        assertThat(stats.getStatements()).hasSize(1);
+        assertThat(stats.getStatements().values()).containsExactly(5);
+        assertThat(stats.getReasons()).containsExactly("query-count", "repeated-statement");
+        assertThat(meterRegistry.get(QueryMonitor.FLAGGED)
+                .tag("handler", "TestController.loadOneByOne")
+                .tag("reason", "repeated-statement")
+                .counter()
+                .count()).isEqualTo(1.0);
+    }
+
+    @Test
+    public void testThatStatementsOutsideHibernateAreCounted() {
+        underTest.begin("TestController.loadWithJdbc");
+
+        jdbcTemplate.queryForObject("select count(*) from authors", Long.class);
+        jdbcTemplate.update("update authors set age = age where id = ?", Long.MAX_VALUE);
+
+        QueryMonitor.QueryStats stats = underTest.end();
+
+        assertThat(stats.getQueries()).isEqualTo(2);
+        assertThat(stats.getStatements()).containsOnlyKeys(
+                "select count(*) from authors",
+                "update authors set age = age where id = ?"
+        );
+    }
+
+    @Test
+    public void testThatStatementsOnTheAsyncWorkerAreAttributedToTheRequest() throws Exception {
+        HandlerMethod handler = new HandlerMethod(this, getClass().getMethod("streamAuthors"));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletWebRequest webRequest = new ServletWebRequest(request);
+        Callable<Void> task = () -> null;
+
+        underTest.preHandle(request, response, handler);
+        underTest.afterConcurrentHandlingStarted(request, response, handler);
+
+        assertThat(underTest.end()).isNull();
+
+        CompletableFuture.runAsync(() -> {
+            underTest.preProcess(webRequest, task);
+            jdbcTemplate.queryForObject("select count(*) from authors", Long.class);
+            underTest.postProcess(webRequest, task, null);
+        }).get();
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+        underTest.preHandle(request, response, handler);
+        underTest.afterCompletion(request, response, handler, null);
+
+        assertThat(meterRegistry.get(QueryMonitor.QUERIES)
+                .tag("handler", "QueryMonitorTest.streamAuthors")
+                .summary()
+                .totalAmount()).isEqualTo(1.0);
+    }
+
+    public void streamAuthors() {
+    }
+
+    @Test
+    public void testThatRequestsAreAttributedToTheirControllerMethod() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/authors"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        assertThat(meterRegistry.get(QueryMonitor.QUERIES)
+                .tag("handler", "AuthorController.readAuthorPage")
+                .summary()
+                .totalAmount()).isPositive();
+        assertThat(meterRegistry.find(QueryMonitor.FLAGGED)
+                .tag("handler", "AuthorController.readAuthorPage")
+                .counters()).isEmpty();
+    }
+
+    @Test
+    public void testThatAsyncRequestsReleaseTheContainerThread() throws Exception {
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/books").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        assertThat(underTest.end()).isNull();
+
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        assertThat(underTest.end()).isNull();
+        assertThat(meterRegistry.get(QueryMonitor.QUERIES)
+                .tag("handler", "BookController.streamManyBooks")
+                .summary()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testThatQueriesOutsideARequestAreNotTracked() {
+        authorRepository.findById(Long.MAX_VALUE);
+
+        assertThat(underTest.end()).isNull();
+    }
+}
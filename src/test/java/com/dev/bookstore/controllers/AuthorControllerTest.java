@@ -3,7 +3,11 @@ package com.dev.bookstore.controllers;
 import com.dev.bookstore.TestDataUtil;
 import com.dev.bookstore.domain.dto.AuthorDto;
 import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.domain.projections.AuthorPageProjection;
+import com.dev.bookstore.domain.requests.AuthorField;
+import com.dev.bookstore.repositories.AuthorRepository;
 import com.dev.bookstore.services.AuthorService;
+import com.dev.bookstore.services.BookService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +16,9 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -20,9 +27,13 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.util.EnumSet;
 import java.util.List;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 
@@ -40,17 +51,31 @@ public class AuthorControllerTest {
     @MockitoBean
     private final AuthorService authorService;
 
+    private final AuthorRepository authorRepository;
+
+    private final BookService bookService;
+
     @Autowired
-    public AuthorControllerTest(MockMvc mockMvc, ObjectMapper objectMapper, AuthorService authorService) {
+    public AuthorControllerTest(
+            MockMvc mockMvc,
+            ObjectMapper objectMapper,
+            AuthorService authorService,
+            AuthorRepository authorRepository,
+            BookService bookService
+    ) {
         this.mockMvc = mockMvc;
         this.objectMapper = objectMapper;
         this.authorService = authorService;
+        this.authorRepository = authorRepository;
+        this.bookService = bookService;
     }
 
     @BeforeEach
     public void beforeEach() {
         when(authorService.create(any(AuthorEntity.class)))
                 .thenAnswer(AdditionalAnswers.returnsFirstArg());
+        when(authorService.createAll(any()))
+                .thenAnswer(AdditionalAnswers.returnsFirstArg());
     }
 
     @Test
@@ -115,6 +140,44 @@ public class AuthorControllerTest {
         );
     }
 
+    @Test
+    public void testThatCreateAuthorsReturnsHttpStatus201AndTheCreatedAuthors() throws Exception {
+        String content = objectMapper.writeValueAsString(List.of(
+                TestDataUtil.createTestAuthorDto(),
+                TestDataUtil.createTestAuthorDto()
+        ));
+
+        AuthorDto expected = TestDataUtil.expectedTestAuthorDto();
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders
+                                .post(AUTHORS_BASED_URL + "/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .accept(MediaType.APPLICATION_JSON)
+                                .content(content)
+                ).andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].name").value(expected.getName()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].image").value(expected.getImage()));
+    }
+
+    @Test
+    public void testThatCreateAuthorsReturnHTTP400WhenIllegalArgumentExceptionIsThrown() throws Exception {
+        when(authorService.createAll(any())).thenThrow(IllegalArgumentException.class);
+
+        String content = objectMapper.writeValueAsString(List.of(TestDataUtil.createTestAuthorDto()));
+
+        mockMvc.perform(
+                MockMvcRequestBuilders
+                        .post(AUTHORS_BASED_URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(content)
+        ).andExpect(
+                MockMvcResultMatchers.status().isBadRequest()
+        );
+    }
+
     @Test
     public void testThatListAuthorsReturnsEmptyListAndHttp200WhenNoAuthorsInTheDatabase() throws Exception {
         mockMvc.perform(
@@ -128,15 +191,14 @@ public class AuthorControllerTest {
     }
 
     @Test
-    public void testThatListAuthorsReturnsAuthorsAndHttp200WhenAuthorsInTheDatabase() throws Exception {
-        when(authorService.list()).thenReturn(List.of(
-                TestDataUtil.expectedTestAuthorEntity(null)
-        ));
-
-        AuthorDto expected = TestDataUtil.expectedTestAuthorDto();
-
-        String expectedList = objectMapper.writeValueAsString(List.of(
-                TestDataUtil.expectedTestAuthorDto()
+    public void testThatListAuthorsReturnsTheFirstPageOfIdNameAndImageByDefault() throws Exception {
+        when(authorService.listPage(
+                eq(EnumSet.of(AuthorField.ID, AuthorField.NAME, AuthorField.IMAGE)),
+                any(),
+                eq(0),
+                eq(BookController.DEFAULT_PAGE_SIZE)
+        )).thenReturn(List.of(
+                AuthorPageProjection.builder().id(1L).name("Abigail Rose").image("image.jpeg").build()
         ));
 
         mockMvc.perform(
@@ -146,12 +208,13 @@ public class AuthorControllerTest {
                                 .accept(MediaType.APPLICATION_JSON)
                 )
                 .andExpect(MockMvcResultMatchers.status().isOk())
-                .andExpect(MockMvcResultMatchers.content().json(expectedList))
-                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id").value(expected.getId()))
-                .andExpect(MockMvcResultMatchers.jsonPath("$[0].name").value(expected.getName()))
-                .andExpect(MockMvcResultMatchers.jsonPath("$[0].age").value(expected.getAge()))
-                .andExpect(MockMvcResultMatchers.jsonPath("$[0].description").value(expected.getDescription()))
-                .andExpect(MockMvcResultMatchers.jsonPath("$[0].image").value(expected.getImage()));
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].name").value("Abigail Rose"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].image").value("image.jpeg"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].age").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].description").doesNotExist());
+
+        Mockito.verify(authorService, Mockito.never()).list();
     }
 
     @Test
@@ -189,6 +252,50 @@ public class AuthorControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.image").value(expected.getImage()));
     }
 
+    @Test
+    public void testThatReadOneAuthorReturnsETagOfTheAuthorVersion() throws Exception {
+        AuthorEntity author = TestDataUtil.expectedTestAuthorEntity(999L);
+        author.setVersion(4L);
+
+        when(authorService.get(any())).thenReturn(author);
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders
+                                .get(AUTHORS_BASED_URL + "/999")
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"4\""));
+    }
+
+    @Test
+    public void testThatReadOneAuthorReturnsHTTP304WithoutLoadingTheAuthorWhenETagMatches() throws Exception {
+        when(authorService.getVersion(999L)).thenReturn(4L);
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders
+                                .get(AUTHORS_BASED_URL + "/999")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.IF_NONE_MATCH, "\"4\"")
+                )
+                .andExpect(MockMvcResultMatchers.status().isNotModified());
+
+        Mockito.verify(authorService, Mockito.never()).get(any());
+    }
+
+    @Test
+    public void testThatReadOneAuthorReturnsHTTP404WhenETagIsSentForMissingAuthor() throws Exception {
+        when(authorService.getVersion(999L)).thenReturn(null);
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders
+                                .get(AUTHORS_BASED_URL + "/999")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.IF_NONE_MATCH, "\"4\"")
+                )
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+
     @Test
     public void testThatFullUpdateReturnsHTTP200AndUpdatedAuthorOnSuccessfulCall() throws Exception {
         when(authorService.fullUpdate(any(), any()))
@@ -251,6 +358,62 @@ public class AuthorControllerTest {
                 .andExpect(MockMvcResultMatchers.status().isBadRequest());
     }
 
+    @Test
+    public void testThatPartialUpdateAuthorReturnsHTTP204WithETagWhenMinimalReturnIsPreferred() throws Exception {
+        when(authorService.patch(eq(999L), any(), eq(3L))).thenReturn(4L);
+
+        String content = objectMapper.writeValueAsString(TestDataUtil.partialUpdateTestAuthorDto(999L));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders
+                                .patch(AUTHORS_BASED_URL + "/999")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                                .header("Prefer", "return=minimal")
+                                .content(content)
+                )
+                .andExpect(MockMvcResultMatchers.status().isNoContent())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(MockMvcResultMatchers.header().string("Preference-Applied", "return=minimal"));
+
+        Mockito.verify(authorService, Mockito.never()).get(any());
+    }
+
+    @Test
+    public void testThatPartialUpdateAuthorReturnsHTTP412WhenTheVersionDoesNotMatch() throws Exception {
+        when(authorService.patch(eq(999L), any(), eq(3L)))
+                .thenThrow(new OptimisticLockingFailureException("Author 999 is at version 5"));
+
+        String content = objectMapper.writeValueAsString(TestDataUtil.partialUpdateTestAuthorDto(999L));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders
+                                .patch(AUTHORS_BASED_URL + "/999")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                                .content(content)
+                )
+                .andExpect(MockMvcResultMatchers.status().isPreconditionFailed());
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders
+                                .patch(AUTHORS_BASED_URL + "/999")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.IF_MATCH, "not-an-etag")
+                                .content(content)
+                )
+                .andExpect(MockMvcResultMatchers.status().isPreconditionFailed());
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders
+                                .patch(AUTHORS_BASED_URL + "/999")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+                                .content(content)
+                )
+                .andExpect(MockMvcResultMatchers.status().isPreconditionFailed());
+    }
+
     @Test
     public void testThatPartialUpdateAuthorReturnsHTTP200AndUpdatedAuthor() throws Exception {
         when(authorService.partialUpdate(any(), any()))
@@ -289,4 +452,113 @@ public class AuthorControllerTest {
                 )
                 .andExpect(MockMvcResultMatchers.status().isNoContent());
     }
+
+    @Test
+    public void testThatAsyncDeleteAuthorReturnsHTTP202AcceptedWithTheJobLocation() throws Exception {
+        doNothing().when(authorService).delete(any());
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders
+                                .delete(AUTHORS_BASED_URL + "/999")
+                                .param("async", "true")
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(MockMvcResultMatchers.status().isAccepted())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.LOCATION,
+                        containsString(AUTHORS_BASED_URL + "/deletions/")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.authorId").value(999));
+    }
+
+    @Test
+    public void testThatReadAuthorBooksReturnsKeysetPagesWithANextLink() throws Exception {
+        AuthorEntity author = authorRepository.save(TestDataUtil.createTestAuthorEntity());
+        List.of("978-8200000003", "978-8200000001", "978-8200000002").forEach(isbn -> bookService.createUpdate(
+                isbn, TestDataUtil.testBookSummary(isbn, TestDataUtil.testAuthorSummary(author.getId()))
+        ));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders
+                                .get(AUTHORS_BASED_URL + "/" + author.getId() + "/books")
+                                .param("limit", "2")
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].isbn").value("978-8200000001"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].isbn").value("978-8200000002"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].author.id").value(author.getId()))
+                .andExpect(MockMvcResultMatchers.header().string(AuthorController.TOTAL_COUNT, "3"))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.LINK,
+                        containsString("after=978-8200000002")));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders
+                                .get(AUTHORS_BASED_URL + "/" + author.getId() + "/books")
+                                .param("after", "978-8200000002")
+                                .param("limit", "2")
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].isbn").value("978-8200000003"))
+                .andExpect(MockMvcResultMatchers.header().doesNotExist(HttpHeaders.LINK));
+    }
+
+    @Test
+    public void testThatReadAuthorBooksReturnsHttpStatus404WhenTheAuthorDoesNotExist() throws Exception {
+        when(authorService.getVersion(999L)).thenReturn(null);
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders
+                                .get(AUTHORS_BASED_URL + "/999/books")
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+
+    @Test
+    public void testThatListAuthorsWithFieldsAndSortReturnsTheRequestedColumns() throws Exception {
+        when(authorService.listPage(
+                EnumSet.of(AuthorField.NAME, AuthorField.IMAGE),
+                Sort.by(Sort.Order.desc("name")),
+                1,
+                2
+        )).thenReturn(List.of(
+                AuthorPageProjection.builder().id(3L).name("Carol").image("c.jpg").build(),
+                AuthorPageProjection.builder().id(2L).name("Bob").image("b.jpg").build()
+        ));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders
+                                .get(AUTHORS_BASED_URL)
+                                .param("fields", "name,image")
+                                .param("sort", "-name")
+                                .param("page", "1")
+                                .param("size", "2")
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].name").value("Carol"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].description").doesNotExist())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.LINK, containsString("page=2")));
+    }
+
+    @Test
+    public void testThatListAuthorsRejectsUnknownFieldsAndUnsortableColumns() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(AUTHORS_BASED_URL).param("fields", "name,password"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        mockMvc.perform(MockMvcRequestBuilders.get(AUTHORS_BASED_URL).param("sort", "description"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    public void testThatListAuthorsRejectsPagesBeyondTheOffsetRange() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(AUTHORS_BASED_URL)
+                        .param("page", String.valueOf(Integer.MAX_VALUE))
+                        .param("size", "100"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        Mockito.verify(authorService, Mockito.never()).listPage(any(), any(), anyInt(), anyInt());
+    }
 }
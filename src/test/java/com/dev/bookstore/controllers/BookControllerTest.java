@@ -8,26 +8,35 @@ import com.dev.bookstore.domain.entities.AuthorEntity;
 import com.dev.bookstore.domain.entities.BookEntity;
 import com.dev.bookstore.domain.requests.BookUpdateRequest;
 import com.dev.bookstore.domain.response.BookResponse;
+import com.dev.bookstore.domain.response.BookUpsertResult;
+import com.dev.bookstore.domain.response.BookUpsertStatus;
 import com.dev.bookstore.mappers.impl.BookMapper;
+import com.dev.bookstore.services.BookSearchService;
 import com.dev.bookstore.services.BookService;
+import com.dev.bookstore.services.BookSummaryReadModel;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import java.util.List;
+import java.util.Optional;
 
 import static com.dev.bookstore.TestDataUtil.BOOK_ISBN;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 
@@ -43,14 +52,29 @@ public class BookControllerTest {
     @MockitoBean
     private final BookService bookService;
 
+    @MockitoBean
+    private final BookSearchService bookSearchService;
+
+    @MockitoBean
+    private final BookSummaryReadModel bookSummaryReadModel;
+
     private final ObjectMapper objectMapper;
 
     private final BookMapper bookMapper;
 
     @Autowired
-    public BookControllerTest(MockMvc mockMvc, BookService bookService, ObjectMapper objectMapper, BookMapper bookMapper) {
+    public BookControllerTest(
+            MockMvc mockMvc,
+            BookService bookService,
+            BookSearchService bookSearchService,
+            BookSummaryReadModel bookSummaryReadModel,
+            ObjectMapper objectMapper,
+            BookMapper bookMapper
+    ) {
         this.mockMvc = mockMvc;
         this.bookService = bookService;
+        this.bookSearchService = bookSearchService;
+        this.bookSummaryReadModel = bookSummaryReadModel;
         this.objectMapper = objectMapper;
         this.bookMapper = bookMapper;
     }
@@ -109,13 +133,42 @@ public class BookControllerTest {
         );
     }
 
+    @Test
+    public void testThatCreateAndFullUpdateBooksReturnsTheStatusOfEachBook() throws Exception {
+        when(bookService.createUpdateAll(any())).thenReturn(List.of(
+                BookUpsertResult.builder().isbn(BOOK_ISBN).status(BookUpsertStatus.CREATED).build(),
+                BookUpsertResult.builder().isbn("978-0-00-000001-0").status(BookUpsertStatus.FAILED)
+                        .error("Author not found").build()
+        ));
+
+        AuthorSummaryDto authorSummaryDto = TestDataUtil.testAuthorSummaryDto(1L);
+
+        String content = objectMapper.writeValueAsString(List.of(
+                TestDataUtil.testBookSummaryDto(BOOK_ISBN, authorSummaryDto),
+                TestDataUtil.testBookSummaryDto("978-0-00-000001-0", TestDataUtil.testAuthorSummaryDto(999L))
+        ));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders
+                                .put(BOOKS_BASED_URL)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .accept(MediaType.APPLICATION_JSON)
+                                .content(content)
+                ).andExpect(
+                        MockMvcResultMatchers.status().isOk()
+                ).andExpect(MockMvcResultMatchers.jsonPath("$[0].isbn").value(BOOK_ISBN))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].status").value("CREATED"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].status").value("FAILED"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].error").value("Author not found"));
+    }
+
     @Test
     public void testThatReadManyBooksReturnsAListOfBooks() throws Exception {
         AuthorEntity author = TestDataUtil.testAuthorEntity(1L);
         BookEntity book = TestDataUtil.testBookEntity(BOOK_ISBN, author);
 
-        when(bookService.list(null))
-                .thenReturn(List.of(book));
+        when(bookSummaryReadModel.list(null, null, BookController.DEFAULT_PAGE_SIZE))
+                .thenReturn(List.of(TestDataUtil.testBookSummaryEntry(book)));
 
         BookSummaryDto expected = bookMapper.toBookSummaryDto(book);
 
@@ -138,7 +191,7 @@ public class BookControllerTest {
 
     @Test
     public void testThatReadManyBooksReturnsNoBookWhenNotMatchTheAuthorId() throws Exception {
-        when(bookService.list(any())).thenReturn(List.of());
+        when(bookSummaryReadModel.list(any(), any(), anyInt())).thenReturn(List.of());
 
         mockMvc.perform(
                 MockMvcRequestBuilders
@@ -155,8 +208,8 @@ public class BookControllerTest {
         AuthorEntity author = TestDataUtil.testAuthorEntity(1L);
         BookEntity book = TestDataUtil.testBookEntity(BOOK_ISBN, author);
 
-        when(bookService.list(any()))
-                .thenReturn(List.of(book));
+        when(bookSummaryReadModel.list(any(), any(), anyInt()))
+                .thenReturn(List.of(TestDataUtil.testBookSummaryEntry(book)));
 
         BookSummaryDto expected = bookMapper.toBookSummaryDto(book);
 
@@ -176,9 +229,100 @@ public class BookControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$[0].author.image").value(author.getImage()));
     }
 
+    @Test
+    public void testThatReadManyBooksReturnsNextLinkWhenThePageIsFull() throws Exception {
+        AuthorEntity author = TestDataUtil.testAuthorEntity(1L);
+        BookEntity book = TestDataUtil.testBookEntity(BOOK_ISBN, author);
+
+        when(bookSummaryReadModel.list(null, null, 1)).thenReturn(List.of(TestDataUtil.testBookSummaryEntry(book)));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders
+                                .get(BOOKS_BASED_URL + "?limit=1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .accept(MediaType.APPLICATION_JSON)
+                ).andExpect(
+                        MockMvcResultMatchers.status().isOk()
+                ).andExpect(MockMvcResultMatchers.jsonPath("$[0].isbn").value(BOOK_ISBN))
+                .andExpect(MockMvcResultMatchers.header().string(
+                        HttpHeaders.LINK, "<http://localhost/books?after=" + BOOK_ISBN + "&limit=1>; rel=\"next\""
+                ));
+    }
+
+    @Test
+    public void testThatReadManyBooksReturnsNoNextLinkWhenThePageIsNotFull() throws Exception {
+        AuthorEntity author = TestDataUtil.testAuthorEntity(1L);
+        BookEntity book = TestDataUtil.testBookEntity(BOOK_ISBN, author);
+
+        when(bookSummaryReadModel.list(null, BOOK_ISBN, 2)).thenReturn(List.of(TestDataUtil.testBookSummaryEntry(book)));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders
+                                .get(BOOKS_BASED_URL + "?after=" + BOOK_ISBN + "&limit=2")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .accept(MediaType.APPLICATION_JSON)
+                ).andExpect(
+                        MockMvcResultMatchers.status().isOk()
+                ).andExpect(MockMvcResultMatchers.jsonPath("$[0].isbn").value(BOOK_ISBN))
+                .andExpect(MockMvcResultMatchers.header().doesNotExist(HttpHeaders.LINK));
+    }
+
+    @Test
+    public void testThatStreamManyBooksWritesOneJsonLinePerBook() throws Exception {
+        AuthorEntity author = TestDataUtil.testAuthorEntity(1L);
+        BookEntity book = TestDataUtil.testBookEntity(BOOK_ISBN, author);
+
+        when(bookSummaryReadModel.list(any(), any(), anyInt())).thenReturn(List.of(TestDataUtil.testBookSummaryEntry(book)));
+
+        MvcResult result = mockMvc.perform(
+                MockMvcRequestBuilders
+                        .get(BOOKS_BASED_URL)
+                        .accept(MediaType.APPLICATION_NDJSON)
+        ).andExpect(
+                MockMvcResultMatchers.request().asyncStarted()
+        ).andReturn();
+
+        String expected = objectMapper.writeValueAsString(bookMapper.toBookSummaryDto(book)) + "\n";
+
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(MockMvcResultMatchers.content().string(expected));
+    }
+
+    @Test
+    public void testThatSearchBooksReturnsRankedBooks() throws Exception {
+        BookSummaryDto first = BookSummaryDto.builder().isbn("978-0000000002").title("First").build();
+        BookSummaryDto second = BookSummaryDto.builder().isbn("978-0000000001").title("Second").build();
+
+        when(bookSearchService.search("dragon", BookController.DEFAULT_PAGE_SIZE)).thenReturn(List.of(first, second));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders
+                                .get(BOOKS_BASED_URL + "/search")
+                                .param("q", "dragon")
+                                .accept(MediaType.APPLICATION_JSON)
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].isbn").value(first.getIsbn()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].isbn").value(second.getIsbn()));
+    }
+
+    @Test
+    public void testThatSearchBooksReturnsHTTP400WhenQueryIsBlank() throws Exception {
+        mockMvc.perform(
+                MockMvcRequestBuilders
+                        .get(BOOKS_BASED_URL + "/search")
+                        .param("q", " ")
+                        .accept(MediaType.APPLICATION_JSON)
+        ).andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        Mockito.verifyNoInteractions(bookSearchService);
+    }
+
     @Test
     public void testThatReadOneBookReturnsHTTP404WhenBookNotFound() throws Exception {
-        when(bookService.get(any())).thenThrow(IllegalStateException.class);
+        when(bookSummaryReadModel.get(any())).thenReturn(Optional.empty());
 
         mockMvc.perform(
                 MockMvcRequestBuilders
@@ -195,7 +339,7 @@ public class BookControllerTest {
         AuthorEntity author = TestDataUtil.testAuthorEntity(1L);
         BookEntity book = TestDataUtil.testBookEntity(BOOK_ISBN, author);
 
-        when(bookService.get(any())).thenReturn(book);
+        when(bookSummaryReadModel.get(any())).thenReturn(Optional.of(TestDataUtil.testBookSummaryEntry(book)));
 
         BookSummaryDto expected = bookMapper.toBookSummaryDto(book);
 
@@ -216,6 +360,70 @@ public class BookControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.author.image").value(author.getImage()));
     }
 
+    @Test
+    public void testThatReadOneBookReturnsETagOfTheBookAndAuthorVersions() throws Exception {
+        AuthorEntity author = TestDataUtil.testAuthorEntity(1L);
+        author.setVersion(3L);
+        BookEntity book = TestDataUtil.testBookEntity(BOOK_ISBN, author);
+        book.setVersion(2L);
+
+        when(bookSummaryReadModel.get(any())).thenReturn(Optional.of(TestDataUtil.testBookSummaryEntry(book)));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders
+                                .get(BOOKS_BASED_URL + "/" + BOOK_ISBN)
+                                .accept(MediaType.APPLICATION_JSON)
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"2-1.3\""));
+    }
+
+    @Test
+    public void testThatReadOneBookReturnsHTTP304WithoutTouchingTheDatabaseWhenETagMatches() throws Exception {
+        AuthorEntity author = TestDataUtil.testAuthorEntity(1L);
+        author.setVersion(3L);
+        BookEntity book = TestDataUtil.testBookEntity(BOOK_ISBN, author);
+        book.setVersion(2L);
+
+        when(bookSummaryReadModel.get(BOOK_ISBN)).thenReturn(Optional.of(TestDataUtil.testBookSummaryEntry(book)));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders
+                                .get(BOOKS_BASED_URL + "/" + BOOK_ISBN)
+                                .accept(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.IF_NONE_MATCH, "\"2-1.3\"")
+                ).andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"2-1.3\""));
+
+        Mockito.verifyNoInteractions(bookService);
+    }
+
+    @Test
+    public void testThatReadManyBooksReturnsHTTP304WhenListETagMatches() throws Exception {
+        AuthorEntity author = TestDataUtil.testAuthorEntity(1L);
+        BookEntity book = TestDataUtil.testBookEntity(BOOK_ISBN, author);
+
+        when(bookSummaryReadModel.list(any(), any(), anyInt()))
+                .thenReturn(List.of(TestDataUtil.testBookSummaryEntry(book)));
+
+        String etag = mockMvc.perform(
+                        MockMvcRequestBuilders
+                                .get(BOOKS_BASED_URL)
+                                .accept(MediaType.APPLICATION_JSON)
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(
+                MockMvcRequestBuilders
+                        .get(BOOKS_BASED_URL)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+        ).andExpect(MockMvcResultMatchers.status().isNotModified());
+
+        Mockito.verifyNoInteractions(bookService);
+    }
+
     @Test
     public void testThatPartialUpdateBookReturnsHTTP400WhenIllegalStateExceptionIsThrown() throws Exception {
         BookUpdateRequestDto bookUpdateRequestDto = BookUpdateRequestDto.builder()
@@ -240,6 +448,46 @@ public class BookControllerTest {
         );
     }
 
+    @Test
+    public void testThatPartialUpdateBookReturnsHTTP400WhenTheBodyHasNoFields() throws Exception {
+        mockMvc.perform(
+                MockMvcRequestBuilders
+                        .patch(BOOKS_BASED_URL + "/" + BOOK_ISBN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_MATCH, "\"1-1.0\"")
+                        .content("{}")
+        ).andExpect(
+                MockMvcResultMatchers.status().isBadRequest()
+        );
+
+        Mockito.verify(bookService, Mockito.never()).patch(any(), any(), any());
+    }
+
+    @Test
+    public void testThatPartialUpdateBookReturnsHTTP204WithETagWhenMinimalReturnIsPreferred() throws Exception {
+        BookEntity patchedBook = TestDataUtil.testBookEntity(BOOK_ISBN, TestDataUtil.testAuthorEntity(1L));
+        patchedBook.setVersion(4L);
+
+        when(bookService.patch(eq(BOOK_ISBN), any(), eq(3L))).thenReturn(4L);
+        when(bookSummaryReadModel.get(BOOK_ISBN)).thenReturn(Optional.of(TestDataUtil.testBookSummaryEntry(patchedBook)));
+
+        String content = objectMapper.writeValueAsString(BookUpdateRequestDto.builder().title("Patched Title").build());
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders
+                                .patch(BOOKS_BASED_URL + "/" + BOOK_ISBN)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.IF_MATCH, "\"3-1.0\"")
+                                .header("Prefer", "return=minimal")
+                                .content(content)
+                )
+                .andExpect(MockMvcResultMatchers.status().isNoContent())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"4-1.0\""))
+                .andExpect(MockMvcResultMatchers.header().string("Preference-Applied", "return=minimal"));
+
+        Mockito.verify(bookService, Mockito.never()).get(any());
+    }
+
     @Test
     public void testThatPartialUpdateBookReturnsHTTP200AndBookWhenUpdateSuccessfully() throws Exception {
         String newTestBookTitle = "New Test Book Title";
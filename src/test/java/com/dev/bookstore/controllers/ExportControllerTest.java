@@ -0,0 +1,178 @@
+package com.dev.bookstore.controllers;
+
+import com.dev.bookstore.TestDataUtil;
+import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.domain.requests.BookSummary;
+import com.dev.bookstore.domain.response.ExportJobResponse;
+import com.dev.bookstore.domain.response.JobStatus;
+import com.dev.bookstore.services.AuthorService;
+import com.dev.bookstore.services.BookService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+public class ExportControllerTest {
+
+    private static final List<String> ISBNS = List.of("978-6000000001", "978-6000000002");
+
+    private final TestRestTemplate restTemplate;
+
+    private final MockMvc mockMvc;
+
+    private final BookService bookService;
+
+    private final AuthorService authorService;
+
+    private final ObjectMapper objectMapper;
+
+    private AuthorEntity author;
+
+    @Autowired
+    public ExportControllerTest(
+            TestRestTemplate restTemplate,
+            MockMvc mockMvc,
+            BookService bookService,
+            AuthorService authorService,
+            ObjectMapper objectMapper
+    ) {
+        this.restTemplate = restTemplate;
+        this.mockMvc = mockMvc;
+        this.bookService = bookService;
+        this.authorService = authorService;
+        this.objectMapper = objectMapper;
+    }
+
+    @BeforeEach
+    public void beforeEach() {
+        author = authorService.create(TestDataUtil.createTestAuthorEntity());
+
+        for (String isbn : ISBNS) {
+            BookSummary bookSummary = TestDataUtil.testBookSummary(isbn, TestDataUtil.testAuthorSummary(author.getId()));
+            bookSummary.setDescription("Says \"hello\", then\nleaves");
+            bookService.createUpdate(isbn, bookSummary);
+        }
+    }
+
+    @AfterEach
+    public void afterEach() {
+        ISBNS.forEach(bookService::delete);
+        authorService.delete(author.getId());
+    }
+
+    @Test
+    public void testThatCsvExportsAreStartedPolledAndDownloaded() throws Exception {
+        ExportJobResponse job = awaitCompletion(start("csv"));
+
+        assertThat(job.getRows()).isGreaterThanOrEqualTo(ISBNS.size());
+
+        ResponseEntity<byte[]> download = restTemplate.getForEntity("/exports/" + job.getId() + "/file", byte[].class);
+
+        assertThat(download.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(download.getHeaders().getContentLength()).isEqualTo(job.getBytes());
+        assertThat(download.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)).contains(job.getFileName());
+
+        String csv = gunzip(download.getBody());
+
+        assertThat(csv).startsWith("isbn,title,description,image,author_id,author_name\r\n");
+        assertThat(csv).contains(ISBNS.get(0) + ",Test Book Title,\"Says \"\"hello\"\", then\nleaves\",");
+        assertThat(csv).contains("," + author.getId() + "," + author.getName() + "\r\n");
+    }
+
+    @Test
+    public void testThatJsonlExportsContainOneBookPerLine() throws Exception {
+        ExportJobResponse job = awaitCompletion(start("jsonl"));
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/exports/" + job.getId() + "/file"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        List<JsonNode> books = gunzip(body).lines()
+                .map(this::readTree)
+                .filter(book -> ISBNS.contains(book.get("isbn").asText()))
+                .toList();
+
+        assertThat(books).hasSize(ISBNS.size());
+        assertThat(books.get(0).get("authorId").asLong()).isEqualTo(author.getId());
+        assertThat(books.get(0).get("authorName").asText()).isEqualTo(author.getName());
+        assertThat(books.get(0).get("description").asText()).isEqualTo("Says \"hello\", then\nleaves");
+    }
+
+    @Test
+    public void testThatUnknownFormatsAndJobsAreRejected() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post("/exports").param("format", "xml"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+        mockMvc.perform(MockMvcRequestBuilders.get("/exports/missing"))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+        mockMvc.perform(MockMvcRequestBuilders.get("/exports/missing/file"))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+
+    private ExportJobResponse start(String format) {
+        ResponseEntity<ExportJobResponse> response =
+                restTemplate.postForEntity("/exports?format=" + format, null, ExportJobResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getHeaders().getLocation()).hasPath("/exports/" + response.getBody().getId());
+
+        return response.getBody();
+    }
+
+    private ExportJobResponse awaitCompletion(ExportJobResponse job) throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            job = restTemplate.getForObject("/exports/" + job.getId(), ExportJobResponse.class);
+
+            if (job.getStatus() == JobStatus.COMPLETED || job.getStatus() == JobStatus.FAILED) {
+                break;
+            }
+
+            Thread.sleep(50);
+        }
+
+        assertThat(job.getStatus()).isEqualTo(JobStatus.COMPLETED);
+
+        return job;
+    }
+
+    private JsonNode readTree(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
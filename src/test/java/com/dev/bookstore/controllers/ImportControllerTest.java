@@ -0,0 +1,206 @@
+package com.dev.bookstore.controllers;
+
+import com.dev.bookstore.TestDataUtil;
+import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.domain.entities.BookEntity;
+import com.dev.bookstore.domain.response.ImportJobResponse;
+import com.dev.bookstore.domain.response.JobStatus;
+import com.dev.bookstore.repositories.BookRepository;
+import com.dev.bookstore.services.AuthorService;
+import com.dev.bookstore.services.BookService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+
+@SpringBootTest(properties = "bookstore.import.max-upload-size=4KB")
+@AutoConfigureMockMvc
+public class ImportControllerTest {
+
+    private static final List<String> ISBNS = List.of("978-7000000001", "978-7000000002", "978-7000000003");
+
+    private static final String NEW_AUTHOR = "Imported, Author";
+
+    private final MockMvc mockMvc;
+
+    private final BookService bookService;
+
+    private final AuthorService authorService;
+
+    private final BookRepository bookRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private AuthorEntity author;
+
+    @Autowired
+    public ImportControllerTest(
+            MockMvc mockMvc,
+            BookService bookService,
+            AuthorService authorService,
+            BookRepository bookRepository,
+            ObjectMapper objectMapper
+    ) {
+        this.mockMvc = mockMvc;
+        this.bookService = bookService;
+        this.authorService = authorService;
+        this.bookRepository = bookRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @BeforeEach
+    public void beforeEach() {
+        author = authorService.create(TestDataUtil.createTestAuthorEntity());
+
+        bookService.createUpdate(ISBNS.get(0), TestDataUtil.testBookSummary(
+                ISBNS.get(0), TestDataUtil.testAuthorSummary(author.getId())
+        ));
+    }
+
+    @AfterEach
+    public void afterEach() {
+        ISBNS.stream()
+                .filter(bookRepository::existsById)
+                .forEach(bookService::delete);
+
+        authorService.list().stream()
+                .filter(existing -> existing.getId().equals(author.getId()) || NEW_AUTHOR.equals(existing.getName()))
+                .forEach(existing -> authorService.delete(existing.getId()));
+    }
+
+    @Test
+    public void testThatGzippedCsvImportsUpsertBooksAndReportFailedRows() throws Exception {
+        String csv = "isbn,title,description,image,author_id,author_name\r\n"
+                + ISBNS.get(0) + ",Updated Title,,," + author.getId() + ",\r\n"
+                + ISBNS.get(1) + ",New Title,\"Says \"\"hi\"\",\nthen leaves\",,,\"" + NEW_AUTHOR + "\"\r\n"
+                + ISBNS.get(2) + ",Orphan,,,999999999,\r\n"
+                + "978-7000000004,Broken,,,not-a-number,\r\n";
+
+        ImportJobResponse job = awaitCompletion(start("csv", gzip(csv)));
+
+        assertThat(job.getRows()).isEqualTo(4);
+        assertThat(job.getUpdated()).isEqualTo(1);
+        assertThat(job.getCreated()).isEqualTo(1);
+        assertThat(job.getFailed()).isEqualTo(2);
+        assertThat(job.getProgress()).isEqualTo(1.0);
+
+        assertThat(bookService.get(ISBNS.get(0)).getTitle()).isEqualTo("Updated Title");
+
+        BookEntity created = bookService.get(ISBNS.get(1));
+        assertThat(created.getDescription()).isEqualTo("Says \"hi\",\nthen leaves");
+        assertThat(created.getAuthor().getName()).isEqualTo(NEW_AUTHOR);
+
+        assertThat(bookRepository.existsById(ISBNS.get(2))).isFalse();
+
+        String errors = mockMvc.perform(MockMvcRequestBuilders.get("/imports/" + job.getId() + "/errors"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(errors).startsWith("line,isbn,error\r\n");
+        assertThat(errors).contains("5," + ISBNS.get(2) + ",Author not found\r\n");
+        assertThat(errors).contains("6,978-7000000004,Invalid author_id: not-a-number\r\n");
+    }
+
+    @Test
+    public void testThatJsonlImportsSkipMalformedLines() throws Exception {
+        String jsonl = "{\"isbn\":\"" + ISBNS.get(1) + "\",\"title\":\"Json Title\",\"authorId\":" + author.getId() + "}\n"
+                + "\n"
+                + "{not json\n"
+                + "{\"isbn\":\"" + ISBNS.get(2) + "\",\"title\":\"Json Title\",\"authorName\":\"" + NEW_AUTHOR + "\"}\n";
+
+        ImportJobResponse job = awaitCompletion(start("jsonl", jsonl.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(job.getRows()).isEqualTo(3);
+        assertThat(job.getCreated()).isEqualTo(2);
+        assertThat(job.getFailed()).isEqualTo(1);
+
+        assertThat(bookService.get(ISBNS.get(1)).getAuthor().getId()).isEqualTo(author.getId());
+        assertThat(bookService.get(ISBNS.get(2)).getAuthor().getName()).isEqualTo(NEW_AUTHOR);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/imports/" + job.getId() + "/errors"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().string(containsString("3,,Malformed JSON")));
+    }
+
+    @Test
+    public void testThatUnknownFormatsAndJobsAreRejected() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post("/imports").param("format", "xml").content("isbn"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+        mockMvc.perform(MockMvcRequestBuilders.get("/imports/missing"))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+        mockMvc.perform(MockMvcRequestBuilders.get("/imports/missing/errors"))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+
+    @Test
+    public void testThatUploadsOverTheSizeLimitAreRejected() throws Exception {
+        byte[] content = ("isbn\r\n" + (ISBNS.get(0) + "\r\n").repeat(500)).getBytes(StandardCharsets.UTF_8);
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/imports").param("format", "csv").content(content))
+                .andExpect(MockMvcResultMatchers.status().isPayloadTooLarge());
+    }
+
+    private ImportJobResponse start(String format, byte[] content) throws Exception {
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.post("/imports")
+                        .param("format", format)
+                        .content(content))
+                .andExpect(MockMvcResultMatchers.status().isAccepted())
+                .andReturn();
+
+        ImportJobResponse job = readJob(result);
+
+        assertThat(result.getResponse().getHeader(HttpHeaders.LOCATION)).endsWith("/imports/" + job.getId());
+        assertThat(job.getTotalBytes()).isEqualTo(content.length);
+
+        return job;
+    }
+
+    private ImportJobResponse awaitCompletion(ImportJobResponse job) throws Exception {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            job = readJob(mockMvc.perform(MockMvcRequestBuilders.get("/imports/" + job.getId())).andReturn());
+
+            if (job.getStatus() == JobStatus.COMPLETED || job.getStatus() == JobStatus.FAILED) {
+                break;
+            }
+
+            Thread.sleep(50);
+        }
+
+        assertThat(job.getStatus()).isEqualTo(JobStatus.COMPLETED);
+
+        return job;
+    }
+
+    private ImportJobResponse readJob(MvcResult result) throws IOException {
+        return objectMapper.readValue(result.getResponse().getContentAsByteArray(), ImportJobResponse.class);
+    }
+
+    private static byte[] gzip(String content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (GZIPOutputStream output = new GZIPOutputStream(bytes)) {
+            output.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,113 @@
+package com.dev.bookstore.controllers;
+
+import com.dev.bookstore.TestDataUtil;
+import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.domain.entities.BookEntity;
+import com.dev.bookstore.domain.projections.BookSummaryProjection;
+import com.dev.bookstore.mappers.impl.BookMapper;
+import com.dev.bookstore.services.ReactiveBookService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static com.dev.bookstore.TestDataUtil.BOOK_ISBN;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ReactiveBookControllerTest {
+
+    public static final String REACTIVE_BOOKS_BASED_URL = "/reactive/books";
+
+    private final MockMvc mockMvc;
+
+    @MockitoBean
+    private final ReactiveBookService reactiveBookService;
+
+    private final ObjectMapper objectMapper;
+
+    private final BookMapper bookMapper;
+
+    @Autowired
+    public ReactiveBookControllerTest(
+            MockMvc mockMvc,
+            ReactiveBookService reactiveBookService,
+            ObjectMapper objectMapper,
+            BookMapper bookMapper
+    ) {
+        this.mockMvc = mockMvc;
+        this.reactiveBookService = reactiveBookService;
+        this.objectMapper = objectMapper;
+        this.bookMapper = bookMapper;
+    }
+
+    @Test
+    public void testThatStreamBooksWritesOneJsonLinePerBook() throws Exception {
+        AuthorEntity author = TestDataUtil.testAuthorEntity(1L);
+        BookSummaryProjection first = TestDataUtil.testBookSummaryProjection(TestDataUtil.testBookEntity("978-0000000001", author));
+        BookSummaryProjection second = TestDataUtil.testBookSummaryProjection(TestDataUtil.testBookEntity("978-0000000002", author));
+
+        when(reactiveBookService.list(1L, null, 2)).thenReturn(Flux.just(first, second));
+
+        MvcResult result = mockMvc.perform(
+                MockMvcRequestBuilders
+                        .get(REACTIVE_BOOKS_BASED_URL + "?author=1&limit=2")
+                        .accept(MediaType.APPLICATION_NDJSON)
+        ).andExpect(
+                MockMvcResultMatchers.request().asyncStarted()
+        ).andReturn();
+
+        String expected = objectMapper.writeValueAsString(bookMapper.toBookSummaryDto(first)) + "\n"
+                + objectMapper.writeValueAsString(bookMapper.toBookSummaryDto(second)) + "\n";
+
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(MockMvcResultMatchers.content().string(expected));
+    }
+
+    @Test
+    public void testThatReadOneBookReturnsBookAndHTTP200WhenBookFound() throws Exception {
+        AuthorEntity author = TestDataUtil.testAuthorEntity(1L);
+        BookEntity book = TestDataUtil.testBookEntity(BOOK_ISBN, author);
+
+        when(reactiveBookService.get(BOOK_ISBN)).thenReturn(Mono.just(TestDataUtil.testBookSummaryProjection(book)));
+
+        MvcResult result = mockMvc.perform(
+                MockMvcRequestBuilders
+                        .get(REACTIVE_BOOKS_BASED_URL + "/" + BOOK_ISBN)
+                        .accept(MediaType.APPLICATION_JSON)
+        ).andReturn();
+
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.isbn").value(BOOK_ISBN))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.author.id").value(author.getId()));
+    }
+
+    @Test
+    public void testThatReadOneBookReturnsHTTP404WhenBookNotFound() throws Exception {
+        when(reactiveBookService.get(BOOK_ISBN)).thenReturn(Mono.empty());
+
+        MvcResult result = mockMvc.perform(
+                MockMvcRequestBuilders
+                        .get(REACTIVE_BOOKS_BASED_URL + "/" + BOOK_ISBN)
+                        .accept(MediaType.APPLICATION_JSON)
+        ).andReturn();
+
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+}
@@ -0,0 +1,104 @@
+package com.dev.bookstore.services.impl;
+
+import com.dev.bookstore.TestDataUtil;
+import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.domain.response.AuthorDeletionJobResponse;
+import com.dev.bookstore.domain.response.JobStatus;
+import com.dev.bookstore.repositories.AuthorRepository;
+import com.dev.bookstore.repositories.BookRepository;
+import com.dev.bookstore.services.AuthorService;
+import com.dev.bookstore.services.BookService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "bookstore.author-deletion.chunk-size=2")
+public class AuthorDeletionServiceImplTest {
+
+    private final AuthorDeletionServiceImpl underTest;
+
+    private final AuthorService authorService;
+
+    private final BookService bookService;
+
+    private final AuthorRepository authorRepository;
+
+    private final BookRepository bookRepository;
+
+    @Autowired
+    public AuthorDeletionServiceImplTest(
+            AuthorDeletionServiceImpl underTest,
+            AuthorService authorService,
+            BookService bookService,
+            AuthorRepository authorRepository,
+            BookRepository bookRepository
+    ) {
+        this.underTest = underTest;
+        this.authorService = authorService;
+        this.bookService = bookService;
+        this.authorRepository = authorRepository;
+        this.bookRepository = bookRepository;
+    }
+
+    @Test
+    public void testThatStartDeletesTheAuthorsBooksInChunksAndThenTheAuthor() throws InterruptedException {
+        AuthorEntity author = authorService.create(TestDataUtil.createTestAuthorEntity());
+        List<String> isbns = IntStream.rangeClosed(1, 5)
+                .mapToObj(i -> "978-8100000" + String.format("%03d", i))
+                .toList();
+
+        isbns.forEach(isbn -> bookService.createUpdate(isbn, TestDataUtil.testBookSummary(
+                isbn, TestDataUtil.testAuthorSummary(author.getId())
+        )));
+
+        AuthorDeletionJobResponse job = awaitCompletion(underTest.start(author.getId()));
+
+        assertThat(job.getAuthorId()).isEqualTo(author.getId());
+        assertThat(job.getBooksDeleted()).isEqualTo(isbns.size());
+        assertThat(authorRepository.existsById(author.getId())).isFalse();
+        assertThat(isbns).noneMatch(bookRepository::existsById);
+    }
+
+    @Test
+    public void testThatSyncDeleteRemovesTheAuthorAndAllItsBooksAtOnce() {
+        AuthorEntity author = authorService.create(TestDataUtil.createTestAuthorEntity());
+        List<String> isbns = IntStream.rangeClosed(1, 5)
+                .mapToObj(i -> "978-8100001" + String.format("%03d", i))
+                .toList();
+
+        isbns.forEach(isbn -> bookService.createUpdate(isbn, TestDataUtil.testBookSummary(
+                isbn, TestDataUtil.testAuthorSummary(author.getId())
+        )));
+
+        authorService.delete(author.getId());
+
+        assertThat(authorRepository.existsById(author.getId())).isFalse();
+        assertThat(isbns).noneMatch(bookRepository::existsById);
+    }
+
+    @Test
+    public void testThatGetReturnsEmptyForAnUnknownJob() {
+        assertThat(underTest.get("missing")).isEmpty();
+    }
+
+    private AuthorDeletionJobResponse awaitCompletion(AuthorDeletionJobResponse job) throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            job = underTest.get(job.getId()).orElseThrow();
+
+            if (job.getStatus() == JobStatus.COMPLETED || job.getStatus() == JobStatus.FAILED) {
+                break;
+            }
+
+            Thread.sleep(50);
+        }
+
+        assertThat(job.getStatus()).isEqualTo(JobStatus.COMPLETED);
+
+        return job;
+    }
+}
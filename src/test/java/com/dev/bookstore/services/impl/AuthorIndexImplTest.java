@@ -0,0 +1,165 @@
+package com.dev.bookstore.services.impl;
+
+import com.dev.bookstore.TestDataUtil;
+import com.dev.bookstore.config.QueryMonitor;
+import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.domain.projections.AuthorSummaryProjection;
+import com.dev.bookstore.domain.requests.AuthorUpdateRequest;
+import com.dev.bookstore.domain.requests.BookSummary;
+import com.dev.bookstore.services.AuthorService;
+import com.dev.bookstore.services.BookCountService;
+import com.dev.bookstore.services.BookService;
+import com.dev.bookstore.services.BookSummaryReadModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "bookstore.author-index.enabled=true")
+public class AuthorIndexImplTest {
+
+    private static final String ISBN = "978-7000000001";
+
+    private final AuthorIndexImpl underTest;
+
+    private final AuthorService authorService;
+
+    private final BookService bookService;
+
+    private final BookSummaryReadModel bookSummaryReadModel;
+
+    private final BookCountService bookCountService;
+
+    private final QueryMonitor queryMonitor;
+
+    private AuthorEntity author;
+
+    @Autowired
+    public AuthorIndexImplTest(
+            AuthorIndexImpl underTest,
+            AuthorService authorService,
+            BookService bookService,
+            BookSummaryReadModel bookSummaryReadModel,
+            BookCountService bookCountService,
+            QueryMonitor queryMonitor
+    ) {
+        this.underTest = underTest;
+        this.authorService = authorService;
+        this.bookService = bookService;
+        this.bookSummaryReadModel = bookSummaryReadModel;
+        this.bookCountService = bookCountService;
+        this.queryMonitor = queryMonitor;
+    }
+
+    @BeforeEach
+    public void beforeEach() {
+        author = authorService.create(TestDataUtil.createTestAuthorEntity());
+    }
+
+    @AfterEach
+    public void afterEach() {
+        if (underTest.findAuthorId(ISBN).isPresent()) {
+            bookService.delete(ISBN);
+        }
+        authorService.delete(author.getId());
+    }
+
+    @Test
+    public void testThatCreatedAndUpdatedAuthorsAreResolvedFromTheIndex() {
+        assertThat(underTest.findAuthor(author.getId()))
+                .contains(new AuthorSummaryProjection(author.getId(), author.getName(), author.getImage(), 0L));
+
+        AuthorEntity updated = authorService.partialUpdate(
+                author.getId(),
+                AuthorUpdateRequest.builder().name("Renamed Author").build()
+        );
+
+        AuthorSummaryProjection indexed = underTest.findAuthor(author.getId()).orElseThrow();
+        assertThat(indexed.getName()).isEqualTo("Renamed Author");
+        assertThat(indexed.getImage()).isEqualTo(author.getImage());
+        assertThat(indexed.getVersion()).isEqualTo(updated.getVersion());
+    }
+
+    @Test
+    public void testThatDeletedAuthorsAreRemovedFromTheIndex() {
+        AuthorEntity other = authorService.create(TestDataUtil.createTestAuthorEntity());
+
+        authorService.delete(other.getId());
+
+        assertThat(underTest.containsAuthor(other.getId())).isFalse();
+        assertThat(underTest.findAuthor(other.getId())).isEmpty();
+    }
+
+    @Test
+    public void testThatAuthorIdZeroIsNeverIndexed() {
+        authorService.delete(0L);
+
+        assertThat(underTest.containsAuthor(0)).isFalse();
+        assertThat(underTest.findAuthor(0)).isEmpty();
+        assertThat(underTest.findAuthor(author.getId())).isPresent();
+    }
+
+    @Test
+    public void testThatBooksResolveToTheirAuthorId() {
+        createBook();
+
+        assertThat(underTest.findAuthorId(ISBN)).isEqualTo(OptionalLong.of(author.getId()));
+        assertThat(underTest.findAuthorId("9787000000001")).isEmpty();
+
+        bookService.delete(ISBN);
+
+        assertThat(underTest.findAuthorId(ISBN)).isEmpty();
+    }
+
+    @Test
+    public void testThatRewritingABookUnderItsIndexedAuthorSkipsTheCounterStatement() {
+        createBook();
+
+        queryMonitor.begin("AuthorIndexImplTest.rewrite");
+        bookService.createUpdate(ISBN, TestDataUtil.testUpdatedBookSummary(ISBN, TestDataUtil.testAuthorSummary(author.getId())));
+        QueryMonitor.QueryStats stats = queryMonitor.end();
+
+        assertThat(stats.getStatements().keySet()).noneMatch(sql -> sql.contains("author_book_counts"));
+        assertThat(bookCountService.getBookCount(author.getId())).isEqualTo(1L);
+    }
+
+    @Test
+    public void testThatBooksForUnknownAuthorsAreRejectedWithoutLoadingTheAuthor() {
+        BookSummary bookSummary = TestDataUtil.testBookSummary(ISBN, TestDataUtil.testAuthorSummary(Long.MAX_VALUE));
+
+        assertThatThrownBy(() -> bookService.createUpdate(ISBN, bookSummary))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Author not found");
+    }
+
+    @Test
+    public void testThatRebuildsResolveAuthorSummariesFromTheIndex() {
+        createBook();
+
+        underTest.rebuild();
+        bookSummaryReadModel.rebuild();
+
+        assertThat(underTest.findAuthor(author.getId())).isPresent();
+        assertThat(bookSummaryReadModel.get(ISBN).orElseThrow().getSummary().getAuthor().getName())
+                .isEqualTo(author.getName());
+    }
+
+    @Test
+    public void testThatIsbnKeysAreDistinctForDistinctSpellings() {
+        assertThat(AuthorIndexImpl.isbnKey("0123")).isNotEqualTo(AuthorIndexImpl.isbnKey("123"));
+        assertThat(AuthorIndexImpl.isbnKey("978-0")).isNotEqualTo(AuthorIndexImpl.isbnKey("9780"));
+        assertThat(AuthorIndexImpl.isbnKey("999-9-99-999999-9")).isPositive();
+        assertThat(AuthorIndexImpl.isbnKey("978-0-00-000000-00")).isZero();
+        assertThat(AuthorIndexImpl.isbnKey("not-an-isbn")).isZero();
+    }
+
+    private void createBook() {
+        bookService.createUpdate(ISBN, TestDataUtil.testBookSummary(ISBN, TestDataUtil.testAuthorSummary(author.getId())));
+    }
+}
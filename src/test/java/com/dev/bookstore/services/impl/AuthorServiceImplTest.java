@@ -1,14 +1,27 @@
 package com.dev.bookstore.services.impl;
 
 import com.dev.bookstore.TestDataUtil;
+import com.dev.bookstore.config.QueryMonitor;
+import com.dev.bookstore.config.SecondLevelCacheConfig;
 import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.domain.projections.AuthorPageProjection;
+import com.dev.bookstore.domain.requests.AuthorField;
 import com.dev.bookstore.domain.requests.AuthorUpdateRequest;
 import com.dev.bookstore.repositories.AuthorRepository;
+import com.dev.bookstore.repositories.BookRepository;
+import com.dev.bookstore.services.BookService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumSet;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -21,10 +34,29 @@ public class AuthorServiceImplTest {
 
     private final AuthorRepository authorRepository;
 
+    private final BookService bookService;
+
+    private final BookRepository bookRepository;
+
+    private final Statistics statistics;
+
+    private final QueryMonitor queryMonitor;
+
     @Autowired
-    public AuthorServiceImplTest(AuthorServiceImpl authorService, AuthorRepository authorRepository) {
+    public AuthorServiceImplTest(
+            AuthorServiceImpl authorService,
+            AuthorRepository authorRepository,
+            BookService bookService,
+            BookRepository bookRepository,
+            EntityManagerFactory entityManagerFactory,
+            QueryMonitor queryMonitor
+    ) {
         this.underTest = authorService;
         this.authorRepository = authorRepository;
+        this.bookService = bookService;
+        this.bookRepository = bookRepository;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.queryMonitor = queryMonitor;
     }
 
     @Transactional
@@ -56,6 +88,36 @@ public class AuthorServiceImplTest {
 
     }
 
+    @Transactional
+    @Test
+    public void testThatCreateAllPersistsEveryAuthorInTheDatabase() {
+        List<AuthorEntity> authorsToCreate = List.of(
+                TestDataUtil.createTestAuthorEntity(),
+                TestDataUtil.createTestAuthorEntity(),
+                TestDataUtil.createTestAuthorEntity()
+        );
+
+        List<AuthorEntity> result = underTest.createAll(authorsToCreate);
+
+        assertThat(result).hasSize(3);
+        assertThat(result).allSatisfy(author -> {
+            assertThat(author.getId()).isNotNull();
+            assertThat(authorRepository.findById(author.getId()))
+                    .contains(TestDataUtil.expectedTestAuthorEntity(author.getId()));
+        });
+    }
+
+    @Test
+    public void testThatCreateAllWithAnAuthorIdThrowsAnIllegalArgumentException() {
+        AuthorEntity existingAuthor = TestDataUtil.createTestAuthorEntity();
+        existingAuthor.setId(999L);
+
+        assertThatThrownBy(() -> underTest.createAll(List.of(TestDataUtil.createTestAuthorEntity(), existingAuthor)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(authorRepository.count()).isZero();
+    }
+
     @Test
     public void testThatListReturnsEmptyListWhenNoAuthorsInTheDatabase() {
         List<AuthorEntity> result = underTest.list();
@@ -91,6 +153,76 @@ public class AuthorServiceImplTest {
         assertThat(result).isEqualTo(savedAuthor);
     }
 
+    @Test
+    public void testThatBookWritesKeepTheAuthorCacheRegionWarm() {
+        AuthorEntity savedAuthor = underTest.create(TestDataUtil.createTestAuthorEntity());
+        Long id = savedAuthor.getId();
+        String isbn = "978-8000000007";
+
+        try {
+            underTest.get(id);
+
+            bookService.createUpdate(isbn, TestDataUtil.testBookSummary(isbn, TestDataUtil.testAuthorSummary(id)));
+            bookService.delete(isbn);
+
+            statistics.clear();
+            underTest.get(id);
+
+            CacheRegionStatistics regionStatistics =
+                    statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.AUTHORS_REGION);
+            assertThat(regionStatistics.getHitCount()).isEqualTo(1);
+            assertThat(regionStatistics.getMissCount()).isZero();
+        } finally {
+            underTest.delete(id);
+        }
+    }
+
+    @Test
+    public void testThatGetIsServedFromTheSecondLevelCacheAndReflectsPartialUpdates() {
+        AuthorEntity savedAuthor = underTest.create(TestDataUtil.createTestAuthorEntity());
+        Long id = savedAuthor.getId();
+
+        try {
+            underTest.get(id);
+            statistics.clear();
+
+            underTest.get(id);
+            underTest.get(id);
+
+            CacheRegionStatistics regionStatistics =
+                    statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.AUTHORS_REGION);
+            assertThat(regionStatistics.getHitCount()).isEqualTo(2);
+            assertThat(regionStatistics.getMissCount()).isZero();
+
+            underTest.partialUpdate(id, AuthorUpdateRequest.builder().name("Cached Author Name").build());
+
+            assertThat(underTest.get(id).getName()).isEqualTo("Cached Author Name");
+        } finally {
+            underTest.delete(id);
+        }
+
+        assertThat(underTest.get(id)).isNull();
+    }
+
+    @Test
+    public void testThatGetVersionIsIncrementedByEachUpdate() {
+        Long id = underTest.create(TestDataUtil.createTestAuthorEntity()).getId();
+
+        try {
+            assertThat(underTest.getVersion(id)).isZero();
+
+            underTest.partialUpdate(id, AuthorUpdateRequest.builder().name("Versioned Author").build());
+            assertThat(underTest.getVersion(id)).isEqualTo(1L);
+
+            underTest.fullUpdate(id, TestDataUtil.updateTestAuthorEntity(id));
+            assertThat(underTest.getVersion(id)).isEqualTo(2L);
+        } finally {
+            underTest.delete(id);
+        }
+
+        assertThat(underTest.getVersion(id)).isNull();
+    }
+
     @Transactional
     @Test
     public void testThatFullUpdateSuccessfulUpdatesTheAuthorInDatabase() {
@@ -137,7 +269,7 @@ public class AuthorServiceImplTest {
 
         AuthorEntity result = underTest.partialUpdate(existingAuthor.getId(), new AuthorUpdateRequest());
 
-        assertThat(result).isEqualTo(existingAuthor);
+        assertThat(result).usingRecursiveComparison().ignoringFields("books", "version").isEqualTo(existingAuthor);
     }
 
     @Transactional
@@ -258,11 +390,11 @@ public class AuthorServiceImplTest {
         // Set up the expected Author
         expectedAuthor.setId(existingAuthorId);
 
-        assertThat(result).isEqualTo(expectedAuthor);
+        assertThat(result).usingRecursiveComparison().ignoringFields("books", "version").isEqualTo(expectedAuthor);
 
         AuthorEntity recalledAuthor = authorRepository.findById(existingAuthorId).orElse(null);
         assertThat(recalledAuthor).isNotNull();
-        assertThat(recalledAuthor).isEqualTo(expectedAuthor);
+        assertThat(recalledAuthor).usingRecursiveComparison().ignoringFields("books", "version").isEqualTo(expectedAuthor);
     }
 
     @Test
@@ -283,4 +415,96 @@ public class AuthorServiceImplTest {
 
         assertThat(authorRepository.existsById(nonExistingAuthorId)).isFalse();
     }
+
+    @Test
+    public void testThatDeleteRemovesTheAuthorsBooksWithSetBasedStatements() {
+        AuthorEntity savedAuthor = underTest.create(TestDataUtil.createTestAuthorEntity());
+        Long existingAuthorId = savedAuthor.getId();
+        List<String> isbns = List.of("978-8000000001", "978-8000000002", "978-8000000003");
+
+        isbns.forEach(isbn -> bookService.createUpdate(isbn, TestDataUtil.testBookSummary(
+                isbn, TestDataUtil.testAuthorSummary(existingAuthorId)
+        )));
+        isbns.forEach(bookService::get);
+
+        statistics.clear();
+
+        queryMonitor.begin("AuthorServiceImplTest.delete");
+        underTest.delete(existingAuthorId);
+        QueryMonitor.QueryStats stats = queryMonitor.end();
+
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        assertThat(stats.getQueries()).isEqualTo(4);
+        assertThat(stats.getStatements().keySet())
+                .contains("delete from books where author_id = ?")
+                .noneMatch(sql -> sql.contains("fetch first") || sql.contains(" in ("));
+        assertThat(authorRepository.existsById(existingAuthorId)).isFalse();
+        assertThat(isbns).noneMatch(bookRepository::existsById);
+        assertThat(underTest.get(existingAuthorId)).isNull();
+    }
+
+    @Test
+    public void testThatGetLeavesTheBooksAssociationUninitializedAndComparesByIdentity() {
+        AuthorEntity savedAuthor = underTest.create(TestDataUtil.createTestAuthorEntity());
+        Long existingAuthorId = savedAuthor.getId();
+
+        try {
+            bookService.createUpdate("978-8000000004", TestDataUtil.testBookSummary(
+                    "978-8000000004", TestDataUtil.testAuthorSummary(existingAuthorId)
+            ));
+
+            AuthorEntity result = underTest.get(existingAuthorId);
+
+            assertThat(Hibernate.isInitialized(result.getBooks())).isFalse();
+            assertThat(result.toString()).doesNotContain("books");
+            assertThat(result).isEqualTo(savedAuthor).hasSameHashCodeAs(savedAuthor);
+            assertThat(result).isNotEqualTo(TestDataUtil.createTestAuthorEntity());
+        } finally {
+            underTest.delete(existingAuthorId);
+        }
+    }
+
+    @Transactional
+    @Test
+    public void testThatListPageSelectsOnlyTheRequestedFieldsInTheRequestedOrder() {
+        authorRepository.saveAll(List.of(
+                AuthorEntity.builder().name("Zoe").age(40).description("Long text").image("c.jpg").build(),
+                AuthorEntity.builder().name("Zara").age(30).description("Long text").image("a.jpg").build(),
+                AuthorEntity.builder().name("Zed").age(50).description("Long text").image("b.jpg").build()
+        ));
+
+        List<AuthorPageProjection> firstPage = underTest.listPage(
+                EnumSet.of(AuthorField.NAME, AuthorField.IMAGE), Sort.by(Sort.Order.desc("name")), 0, 2
+        );
+        List<AuthorPageProjection> secondPage = underTest.listPage(
+                EnumSet.of(AuthorField.NAME, AuthorField.IMAGE), Sort.by(Sort.Order.desc("name")), 1, 2
+        );
+
+        assertThat(firstPage).extracting(AuthorPageProjection::getName).containsExactly("Zoe", "Zed");
+        assertThat(secondPage).extracting(AuthorPageProjection::getName).startsWith("Zara");
+        assertThat(firstPage.get(0).getId()).isNotNull();
+        assertThat(firstPage.get(0).getImage()).isEqualTo("c.jpg");
+        assertThat(firstPage.get(0).getAge()).isNull();
+        assertThat(firstPage.get(0).getDescription()).isNull();
+    }
+
+    @Test
+    public void testThatListPageReadsBookCountsFromTheCounterTable() {
+        Long existingAuthorId = underTest.create(TestDataUtil.createTestAuthorEntity()).getId();
+
+        try {
+            List.of("978-8000000005", "978-8000000006").forEach(isbn -> bookService.createUpdate(
+                    isbn, TestDataUtil.testBookSummary(isbn, TestDataUtil.testAuthorSummary(existingAuthorId))
+            ));
+
+            List<AuthorPageProjection> page = underTest.listPage(
+                    EnumSet.of(AuthorField.BOOK_COUNT), Sort.by(Sort.Order.desc("id")), 0, 1
+            );
+
+            assertThat(page.get(0).getId()).isEqualTo(existingAuthorId);
+            assertThat(page.get(0).getBookCount()).isEqualTo(2L);
+        } finally {
+            underTest.delete(existingAuthorId);
+        }
+    }
 }
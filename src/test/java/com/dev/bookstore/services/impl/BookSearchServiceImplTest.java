@@ -0,0 +1,105 @@
+package com.dev.bookstore.services.impl;
+
+import com.dev.bookstore.TestDataUtil;
+import com.dev.bookstore.domain.dto.BookSummaryDto;
+import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.domain.requests.AuthorSummary;
+import com.dev.bookstore.domain.requests.BookSummary;
+import com.dev.bookstore.domain.requests.BookUpdateRequest;
+import com.dev.bookstore.repositories.AuthorRepository;
+import com.dev.bookstore.services.BookService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class BookSearchServiceImplTest {
+
+    private static final List<String> ISBNS = List.of("978-9000000001", "978-9000000002", "978-9000000003");
+
+    private final BookSearchServiceImpl underTest;
+
+    private final BookService bookService;
+
+    private final AuthorRepository authorRepository;
+
+    private AuthorEntity author;
+
+    @Autowired
+    public BookSearchServiceImplTest(
+            BookSearchServiceImpl underTest,
+            BookService bookService,
+            AuthorRepository authorRepository
+    ) {
+        this.underTest = underTest;
+        this.bookService = bookService;
+        this.authorRepository = authorRepository;
+    }
+
+    @BeforeEach
+    public void beforeEach() {
+        author = authorRepository.save(TestDataUtil.createTestAuthorEntity());
+
+        createBook(ISBNS.get(0), "The Dragon Reborn", "An epic fantasy.");
+        createBook(ISBNS.get(1), "Gardening Basics", "A chapter about a dragon fruit garden.");
+        createBook(ISBNS.get(2), "Learning Java", "Programming for beginners.");
+    }
+
+    @AfterEach
+    public void afterEach() {
+        ISBNS.forEach(bookService::delete);
+        authorRepository.deleteById(author.getId());
+    }
+
+    @Test
+    public void testThatSearchRanksTitleMatchesAboveDescriptionMatches() {
+        List<String> result = isbns(underTest.search("dragon", 10));
+
+        assertThat(result).containsExactly(ISBNS.get(0), ISBNS.get(1));
+    }
+
+    @Test
+    public void testThatSearchMatchesPrefixesOfEveryTerm() {
+        assertThat(isbns(underTest.search("drag fant", 10))).containsExactly(ISBNS.get(0));
+        assertThat(isbns(underTest.search("Progr", 10))).containsExactly(ISBNS.get(2));
+        assertThat(underTest.search("kotlin", 10)).isEmpty();
+    }
+
+    @Test
+    public void testThatSearchReflectsUpdatesAndDeletes() {
+        bookService.partialUpdate(ISBNS.get(2), BookUpdateRequest.builder().title("Learning Kotlin").build());
+
+        assertThat(isbns(underTest.search("kotlin", 10))).containsExactly(ISBNS.get(2));
+        assertThat(underTest.search("java", 10)).isEmpty();
+
+        bookService.delete(ISBNS.get(0));
+
+        assertThat(isbns(underTest.search("dragon", 10))).containsExactly(ISBNS.get(1));
+    }
+
+    @Test
+    public void testThatReindexRebuildsTheIndexFromTheDatabase() {
+        underTest.reindex();
+
+        assertThat(isbns(underTest.search("dragon", 10))).containsExactly(ISBNS.get(0), ISBNS.get(1));
+    }
+
+    private void createBook(String isbn, String title, String description) {
+        AuthorSummary authorSummary = TestDataUtil.testAuthorSummary(author.getId());
+        BookSummary bookSummary = TestDataUtil.testBookSummary(isbn, authorSummary);
+        bookSummary.setTitle(title);
+        bookSummary.setDescription(description);
+
+        bookService.createUpdate(isbn, bookSummary);
+    }
+
+    private static List<String> isbns(List<BookSummaryDto> books) {
+        return books.stream().map(BookSummaryDto::getIsbn).toList();
+    }
+}
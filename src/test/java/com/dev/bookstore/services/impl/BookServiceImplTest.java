@@ -3,16 +3,21 @@ package com.dev.bookstore.services.impl;
 import com.dev.bookstore.TestDataUtil;
 import com.dev.bookstore.domain.entities.AuthorEntity;
 import com.dev.bookstore.domain.entities.BookEntity;
+import com.dev.bookstore.domain.projections.BookSummaryProjection;
 import com.dev.bookstore.domain.requests.AuthorSummary;
 import com.dev.bookstore.domain.requests.BookSummary;
 import com.dev.bookstore.domain.requests.BookUpdateRequest;
 import com.dev.bookstore.domain.response.BookResponse;
+import com.dev.bookstore.domain.response.BookUpsertResult;
+import com.dev.bookstore.domain.response.BookUpsertStatus;
 import com.dev.bookstore.repositories.AuthorRepository;
 import com.dev.bookstore.repositories.BookRepository;
+import com.dev.bookstore.services.BookCountService;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -30,11 +35,19 @@ public class BookServiceImplTest {
 
     private final AuthorRepository authorRepository;
 
+    private final BookCountService bookCountService;
+
     @Autowired
-    public BookServiceImplTest(BookServiceImpl underTest, BookRepository bookRepository, AuthorRepository authorRepository) {
+    public BookServiceImplTest(
+            BookServiceImpl underTest,
+            BookRepository bookRepository,
+            AuthorRepository authorRepository,
+            BookCountService bookCountService
+    ) {
         this.underTest = underTest;
         this.bookRepository = bookRepository;
         this.authorRepository = authorRepository;
+        this.bookCountService = bookCountService;
     }
 
     @Test
@@ -61,7 +74,7 @@ public class BookServiceImplTest {
         assertThat(recalledBook).isNotNull();
 
         assertThat(savedBookResponse.isCreate()).isTrue();
-        assertThat(recalledBook).isEqualTo(savedBookResponse.getBook());
+        assertThat(recalledBook).usingRecursiveComparison().ignoringFields("author").isEqualTo(savedBookResponse.getBook());
     }
 
     @Test
@@ -81,12 +94,67 @@ public class BookServiceImplTest {
         assertThat(recalledBook).isNotNull();
 
         assertThat(updatedBookResponse.isCreate()).isFalse();
-        assertThat(recalledBook).isEqualTo(updatedBookResponse.getBook());
+        assertThat(recalledBook).usingRecursiveComparison().ignoringFields("author").isEqualTo(updatedBookResponse.getBook());
+    }
+
+    @Test
+    public void testThatCreateUpdateUpsertsInPlaceAndBumpsTheVersion() {
+        AuthorEntity savedAuthor = authorRepository.save(TestDataUtil.createTestAuthorEntity());
+        AuthorSummary authorSummary = TestDataUtil.testAuthorSummary(savedAuthor.getId());
+
+        BookResponse created = underTest.createUpdate(BOOK_ISBN, TestDataUtil.testBookSummary(BOOK_ISBN, authorSummary));
+        BookResponse updated = underTest.createUpdate(BOOK_ISBN, TestDataUtil.testUpdatedBookSummary(BOOK_ISBN, authorSummary));
+
+        assertThat(created.isCreate()).isTrue();
+        assertThat(created.getBook().getVersion()).isEqualTo(0L);
+        assertThat(updated.isCreate()).isFalse();
+        assertThat(updated.getBook().getVersion()).isEqualTo(1L);
+        assertThat(updated.getBook().getAuthor().getId()).isEqualTo(savedAuthor.getId());
+
+        BookEntity recalledBook = bookRepository.findById(BOOK_ISBN).orElseThrow();
+        assertThat(recalledBook.getTitle()).isEqualTo("Updated Test Book Title");
+        assertThat(recalledBook.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    public void testThatCreateUpdateAllCreatesUpdatesAndReportsFailuresPerBook() {
+        AuthorEntity savedAuthor = authorRepository.save(TestDataUtil.createTestAuthorEntity());
+        assertThat(savedAuthor).isNotNull();
+
+        BookEntity savedBook = bookRepository.save(TestDataUtil.testBookEntity(BOOK_ISBN, savedAuthor));
+        assertThat(savedBook).isNotNull();
+
+        AuthorSummary authorSummary = TestDataUtil.testAuthorSummary(savedAuthor.getId());
+        String newIsbn = "978-0-00-000001-0";
+
+        List<BookUpsertResult> results = underTest.createUpdateAll(List.of(
+                TestDataUtil.testUpdatedBookSummary(BOOK_ISBN, authorSummary),
+                TestDataUtil.testBookSummary(newIsbn, authorSummary),
+                TestDataUtil.testBookSummary(newIsbn, authorSummary),
+                TestDataUtil.testBookSummary("978-0-00-000002-0", TestDataUtil.testAuthorSummary(999L))
+        ));
+
+        Assertions.assertThat(results)
+                .extracting(BookUpsertResult::getStatus)
+                .containsExactly(
+                        BookUpsertStatus.UPDATED,
+                        BookUpsertStatus.CREATED,
+                        BookUpsertStatus.FAILED,
+                        BookUpsertStatus.FAILED
+                );
+
+        BookEntity updatedBook = bookRepository.findById(BOOK_ISBN).orElse(null);
+        assertThat(updatedBook).isNotNull();
+        assertThat(updatedBook.getTitle()).isEqualTo("Updated Test Book Title");
+        assertThat(updatedBook.getVersion()).isEqualTo(1L);
+
+        assertThat(bookRepository.existsById(newIsbn)).isTrue();
+        assertThat(bookRepository.existsById("978-0-00-000002-0")).isFalse();
     }
 
     @Test
     public void testThatListReturnsAnEmptyListWhenNoBookInTheDatabase() {
-        List<BookEntity> result = underTest.list(null);
+        List<BookSummaryProjection> result = underTest.list(null, null, 10);
 
         Assertions.assertThat(result).isEmpty();
     }
@@ -99,11 +167,11 @@ public class BookServiceImplTest {
         BookEntity savedBook = bookRepository.save(TestDataUtil.testBookEntity(BOOK_ISBN, savedAuthor));
         assertThat(savedBook).isNotNull();
 
-        List<BookEntity> result = underTest.list(null);
+        List<BookSummaryProjection> result = underTest.list(null, null, 10);
 
         Assertions.assertThat(result).isNotEmpty();
         Assertions.assertThat(result).hasSize(1);
-        Assertions.assertThat(result.get(0)).isEqualTo(savedBook);
+        Assertions.assertThat(result.get(0)).isEqualTo(TestDataUtil.testBookSummaryProjection(savedBook));
     }
 
     @Test
@@ -114,7 +182,7 @@ public class BookServiceImplTest {
         BookEntity savedBook = bookRepository.save(TestDataUtil.testBookEntity(BOOK_ISBN, savedAuthor));
         assertThat(savedBook).isNotNull();
 
-        List<BookEntity> result = underTest.list(999L);
+        List<BookSummaryProjection> result = underTest.list(999L, null, 10);
 
         Assertions.assertThat(result).isEmpty();
     }
@@ -129,10 +197,29 @@ public class BookServiceImplTest {
         BookEntity savedBook = bookRepository.save(TestDataUtil.testBookEntity(BOOK_ISBN, savedAuthor));
         assertThat(savedBook).isNotNull();
 
-        List<BookEntity> result = underTest.list(authorId);
+        List<BookSummaryProjection> result = underTest.list(authorId, null, 10);
 
         Assertions.assertThat(result).isNotEmpty();
-        Assertions.assertThat(result.get(0)).isEqualTo(savedBook);
+        Assertions.assertThat(result.get(0)).isEqualTo(TestDataUtil.testBookSummaryProjection(savedBook));
+    }
+
+    @Test
+    public void testThatListReturnsTheNextPageOfBooksAfterTheGivenIsbn() {
+        AuthorEntity savedAuthor = authorRepository.save(TestDataUtil.createTestAuthorEntity());
+        assertThat(savedAuthor).isNotNull();
+
+        BookEntity firstBook = bookRepository.save(TestDataUtil.testBookEntity("978-0-00-000001-0", savedAuthor));
+        BookEntity secondBook = bookRepository.save(TestDataUtil.testBookEntity("978-0-00-000002-0", savedAuthor));
+        BookEntity thirdBook = bookRepository.save(TestDataUtil.testBookEntity("978-0-00-000003-0", savedAuthor));
+
+        List<BookSummaryProjection> firstPage = underTest.list(null, null, 2);
+        Assertions.assertThat(firstPage).containsExactly(
+                TestDataUtil.testBookSummaryProjection(firstBook),
+                TestDataUtil.testBookSummaryProjection(secondBook)
+        );
+
+        List<BookSummaryProjection> secondPage = underTest.list(null, secondBook.getIsbn(), 2);
+        Assertions.assertThat(secondPage).containsExactly(TestDataUtil.testBookSummaryProjection(thirdBook));
     }
 
     @Test
@@ -156,6 +243,18 @@ public class BookServiceImplTest {
         assertThat(result).isEqualTo(savedBook);
     }
 
+    @Test
+    public void testThatBooksAreEqualByIsbnAndPrintWithoutTheirAuthor() {
+        AuthorEntity savedAuthor = authorRepository.save(TestDataUtil.createTestAuthorEntity());
+        BookEntity savedBook = bookRepository.save(TestDataUtil.testBookEntity(BOOK_ISBN, savedAuthor));
+
+        BookEntity sameIsbn = BookEntity.builder().isbn(BOOK_ISBN).title("Another title").build();
+
+        assertThat(sameIsbn).isEqualTo(savedBook).hasSameHashCodeAs(savedBook);
+        assertThat(new BookEntity()).isNotEqualTo(new BookEntity());
+        assertThat(savedBook.toString()).doesNotContain("author");
+    }
+
     @Test
     public void testThatPartialUpdateThrowsIllegalStateExceptionWhenTheBookNotFoundInTheDatabase() {
         BookUpdateRequest bookUpdateRequest = BookUpdateRequest.builder()
@@ -224,6 +323,28 @@ public class BookServiceImplTest {
         assertThat(result.getImage()).isEqualTo(newTestBookImage);
     }
 
+    @Test
+    public void testThatPatchUpdatesOnlyPresentFieldsAndRejectsStaleVersions() {
+        AuthorEntity savedAuthor = authorRepository.save(TestDataUtil.createTestAuthorEntity());
+        BookEntity savedBook = bookRepository.saveAndFlush(TestDataUtil.testBookEntity(BOOK_ISBN, savedAuthor));
+
+        long version = underTest.patch(BOOK_ISBN, BookUpdateRequest.builder().title("Patched Title").build(), 0L);
+        assertThat(version).isEqualTo(1L);
+
+        BookEntity patchedBook = bookRepository.findById(BOOK_ISBN).orElseThrow();
+        assertThat(patchedBook.getTitle()).isEqualTo("Patched Title");
+        assertThat(patchedBook.getDescription()).isEqualTo(savedBook.getDescription());
+        assertThat(patchedBook.getVersion()).isEqualTo(1L);
+
+        Assertions.assertThatThrownBy(() -> underTest.patch(BOOK_ISBN, BookUpdateRequest.builder().image("x.jpg").build(), 0L))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        Assertions.assertThatThrownBy(() -> underTest.patch("missing", BookUpdateRequest.builder().image("x.jpg").build(), null))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(underTest.patch(BOOK_ISBN, new BookUpdateRequest(), 1L)).isEqualTo(1L);
+        assertThat(underTest.patch(BOOK_ISBN, BookUpdateRequest.builder().image("x.jpg").build(), null)).isEqualTo(2L);
+    }
+
     @Test
     public void testThatDeleteSuccessfullyDeletesAnExistingBookInTheDatabase() {
         AuthorEntity savedAuthor = authorRepository.save(TestDataUtil.createTestAuthorEntity());
@@ -247,4 +368,42 @@ public class BookServiceImplTest {
 
         assertThat(result).isNull();
     }
+
+    @Test
+    public void testThatBookCountsFollowCreatesReassignmentsAndDeletes() {
+        Long firstAuthorId = authorRepository.save(TestDataUtil.createTestAuthorEntity()).getId();
+        Long secondAuthorId = authorRepository.save(TestDataUtil.createTestAuthorEntity()).getId();
+
+        underTest.createUpdate("978-8300000001", TestDataUtil.testBookSummary(
+                "978-8300000001", TestDataUtil.testAuthorSummary(firstAuthorId)
+        ));
+        underTest.createUpdate("978-8300000002", TestDataUtil.testBookSummary(
+                "978-8300000002", TestDataUtil.testAuthorSummary(firstAuthorId)
+        ));
+        underTest.createUpdate("978-8300000002", TestDataUtil.testUpdatedBookSummary(
+                "978-8300000002", TestDataUtil.testAuthorSummary(firstAuthorId)
+        ));
+
+        assertThat(bookCountService.getBookCount(firstAuthorId)).isEqualTo(2L);
+
+        underTest.createUpdateAll(List.of(
+                TestDataUtil.testBookSummary("978-8300000002", TestDataUtil.testAuthorSummary(secondAuthorId)),
+                TestDataUtil.testBookSummary("978-8300000003", TestDataUtil.testAuthorSummary(secondAuthorId))
+        ));
+
+        assertThat(bookCountService.getBookCount(firstAuthorId)).isEqualTo(1L);
+        assertThat(bookCountService.getBookCount(secondAuthorId)).isEqualTo(2L);
+
+        underTest.createUpdate("978-8300000001", TestDataUtil.testBookSummary(
+                "978-8300000001", TestDataUtil.testAuthorSummary(secondAuthorId)
+        ));
+        underTest.delete("978-8300000003");
+
+        assertThat(bookCountService.getBookCount(firstAuthorId)).isZero();
+        assertThat(bookCountService.getBookCount(secondAuthorId)).isEqualTo(2L);
+
+        underTest.deleteByAuthorId(secondAuthorId, 10);
+
+        assertThat(bookCountService.getBookCount(secondAuthorId)).isZero();
+    }
 }
@@ -0,0 +1,128 @@
+package com.dev.bookstore.services.impl;
+
+import com.dev.bookstore.TestDataUtil;
+import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.domain.projections.BookSummaryEntry;
+import com.dev.bookstore.domain.requests.AuthorSummary;
+import com.dev.bookstore.domain.requests.AuthorUpdateRequest;
+import com.dev.bookstore.domain.requests.BookSummary;
+import com.dev.bookstore.repositories.AuthorRepository;
+import com.dev.bookstore.services.AuthorService;
+import com.dev.bookstore.services.BookService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class BookSummaryReadModelImplTest {
+
+    private static final List<String> ISBNS = List.of("978-8000000001", "978-8000000002");
+
+    private final BookSummaryReadModelImpl underTest;
+
+    private final BookService bookService;
+
+    private final AuthorService authorService;
+
+    private final AuthorRepository authorRepository;
+
+    private AuthorEntity author;
+
+    private AuthorEntity otherAuthor;
+
+    @Autowired
+    public BookSummaryReadModelImplTest(
+            BookSummaryReadModelImpl underTest,
+            BookService bookService,
+            AuthorService authorService,
+            AuthorRepository authorRepository
+    ) {
+        this.underTest = underTest;
+        this.bookService = bookService;
+        this.authorService = authorService;
+        this.authorRepository = authorRepository;
+    }
+
+    @BeforeEach
+    public void beforeEach() {
+        author = authorRepository.save(TestDataUtil.createTestAuthorEntity());
+        otherAuthor = authorRepository.save(TestDataUtil.createTestAuthorEntity());
+
+        ISBNS.forEach(isbn -> createBook(isbn, author.getId()));
+    }
+
+    @AfterEach
+    public void afterEach() {
+        ISBNS.stream()
+                .filter(isbn -> underTest.get(isbn).isPresent())
+                .forEach(bookService::delete);
+        authorRepository.deleteById(author.getId());
+        authorRepository.deleteById(otherAuthor.getId());
+    }
+
+    @Test
+    public void testThatCreatedBooksAreServedFromTheReadModel() {
+        assertThat(isbns(underTest.list(author.getId(), null, 10))).containsExactlyElementsOf(ISBNS);
+        assertThat(isbns(underTest.list(author.getId(), ISBNS.get(0), 10))).containsExactly(ISBNS.get(1));
+
+        BookSummaryEntry entry = underTest.get(ISBNS.get(0)).orElseThrow();
+        assertThat(entry.getSummary().getTitle()).isEqualTo(TestDataUtil.testBookSummary(ISBNS.get(0), null).getTitle());
+        assertThat(entry.getSummary().getAuthor().getId()).isEqualTo(author.getId());
+        assertThat(underTest.list(author.getId(), null, 10))
+                .extracting(book -> book.getSummary().getAuthor().getName())
+                .containsOnly(author.getName());
+    }
+
+    @Test
+    public void testThatAuthorUpdatesArePropagatedToTheirBooks() {
+        authorService.partialUpdate(author.getId(), AuthorUpdateRequest.builder().name("Renamed Author").build());
+
+        assertThat(underTest.list(author.getId(), null, 10))
+                .extracting(entry -> entry.getSummary().getAuthor().getName())
+                .containsOnly("Renamed Author");
+        assertThat(underTest.get(ISBNS.get(0)).orElseThrow().getAuthorVersion()).isPositive();
+    }
+
+    @Test
+    public void testThatMovingABookToAnotherAuthorUpdatesTheAuthorIndex() {
+        createBook(ISBNS.get(1), otherAuthor.getId());
+
+        assertThat(isbns(underTest.list(author.getId(), null, 10))).containsExactly(ISBNS.get(0));
+        assertThat(isbns(underTest.list(otherAuthor.getId(), null, 10))).containsExactly(ISBNS.get(1));
+        assertThat(underTest.get(ISBNS.get(1)).orElseThrow().getSummary().getAuthor().getName())
+                .isEqualTo(otherAuthor.getName());
+    }
+
+    @Test
+    public void testThatDeletedBooksAreRemovedFromTheReadModel() {
+        bookService.delete(ISBNS.get(0));
+
+        assertThat(underTest.get(ISBNS.get(0))).isEmpty();
+        assertThat(isbns(underTest.list(author.getId(), null, 10))).containsExactly(ISBNS.get(1));
+    }
+
+    @Test
+    public void testThatRebuildReloadsTheReadModelFromTheDatabase() {
+        underTest.rebuild();
+
+        assertThat(isbns(underTest.list(author.getId(), null, 10))).containsExactlyElementsOf(ISBNS);
+        assertThat(underTest.get(ISBNS.get(1))).isPresent();
+    }
+
+    private void createBook(String isbn, Long authorId) {
+        AuthorSummary authorSummary = TestDataUtil.testAuthorSummary(authorId);
+        BookSummary bookSummary = TestDataUtil.testBookSummary(isbn, authorSummary);
+
+        bookService.createUpdate(isbn, bookSummary);
+    }
+
+    private static List<String> isbns(List<BookSummaryEntry> entries) {
+        return entries.stream().map(BookSummaryEntry::getIsbn).toList();
+    }
+}
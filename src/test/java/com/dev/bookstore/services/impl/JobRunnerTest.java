@@ -0,0 +1,79 @@
+package com.dev.bookstore.services.impl;
+
+import com.dev.bookstore.domain.response.JobStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JobRunnerTest {
+
+    private final JobRunner<TestJob> underTest = new JobRunner<>("test", 1, 1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    public void afterEach() {
+        release.countDown();
+        underTest.close();
+    }
+
+    @Test
+    public void testThatJobsBeyondTheQueueAreRejected() throws InterruptedException {
+        TestJob running = underTest.submit(new TestJob(), this::block);
+        TestJob queued = underTest.submit(new TestJob(), this::block);
+        TestJob rejected = new TestJob();
+
+        assertThatThrownBy(() -> underTest.submit(rejected, this::block))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(underTest.get(rejected.id)).isEmpty();
+
+        release.countDown();
+
+        awaitCompletion(queued);
+        assertThat(queued.status).isEqualTo(JobStatus.COMPLETED);
+        assertThat(running.status).isEqualTo(JobStatus.COMPLETED);
+        assertThat(running.completedAt).isNotNull();
+    }
+
+    @Test
+    public void testThatFailedJobsRecordTheErrorAndExpireAfterRetention() throws InterruptedException {
+        TestJob job = underTest.submit(new TestJob(), ignored -> {
+            throw new IllegalStateException("Broken");
+        });
+
+        awaitCompletion(job);
+        assertThat(job.status).isEqualTo(JobStatus.FAILED);
+        assertThat(job.error).isEqualTo("Broken");
+
+        List<TestJob> expired = new ArrayList<>();
+
+        underTest.cleanup(Duration.ofHours(1), expired::add);
+        assertThat(underTest.get(job.id)).contains(job);
+
+        underTest.cleanup(Duration.ZERO, expired::add);
+        assertThat(underTest.get(job.id)).isEmpty();
+        assertThat(expired).containsExactly(job);
+    }
+
+    private static void awaitCompletion(TestJob job) throws InterruptedException {
+        for (int attempt = 0; attempt < 100 && job.completedAt == null; attempt++) {
+            Thread.sleep(50);
+        }
+    }
+
+    private void block(TestJob job) throws InterruptedException {
+        release.await(5, TimeUnit.SECONDS);
+    }
+
+    private static final class TestJob extends JobRunner.Job {
+    }
+}
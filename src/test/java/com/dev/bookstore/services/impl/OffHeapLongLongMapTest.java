@@ -0,0 +1,76 @@
+package com.dev.bookstore.services.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class OffHeapLongLongMapTest {
+
+    private static final long MISSING = -1L;
+
+    @Test
+    public void testThatTheMapBehavesLikeAHashMapAcrossGrowthAndRemovals() {
+        OffHeapLongLongMap underTest = new OffHeapLongLongMap(16);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            long key = 1 + random.nextInt(50_000);
+
+            if (random.nextInt(4) == 0) {
+                assertThat(underTest.remove(key, MISSING)).isEqualTo(expected.getOrDefault(key, MISSING));
+                expected.remove(key);
+            } else {
+                long value = random.nextLong() & Long.MAX_VALUE;
+                assertThat(underTest.put(key, value, MISSING)).isEqualTo(expected.getOrDefault(key, MISSING));
+                expected.put(key, value);
+            }
+        }
+
+        assertThat(underTest.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(underTest.get(key, MISSING)).isEqualTo(value));
+
+        Map<Long, Long> visited = new HashMap<>();
+        underTest.forEach(visited::put);
+        assertThat(visited).isEqualTo(expected);
+    }
+
+    @Test
+    public void testThatReplaceAllRewritesEveryValue() {
+        OffHeapLongLongMap underTest = new OffHeapLongLongMap(100);
+
+        for (long key = 1; key <= 100; key++) {
+            underTest.put(key, key, MISSING);
+        }
+
+        underTest.replaceAll((key, value) -> value * 10);
+
+        assertThat(underTest.get(7, MISSING)).isEqualTo(70);
+        assertThat(underTest.get(101, MISSING)).isEqualTo(MISSING);
+        assertThat(underTest.containsKey(100)).isTrue();
+    }
+
+    @Test
+    public void testThatZeroCannotBeUsedAsAKey() {
+        OffHeapLongLongMap underTest = new OffHeapLongLongMap(1);
+
+        assertThatThrownBy(() -> underTest.put(0, 1, MISSING)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testThatZeroIsNeverFoundOrRemoved() {
+        OffHeapLongLongMap underTest = new OffHeapLongLongMap(1);
+        underTest.put(1, 10, MISSING);
+
+        assertThat(underTest.containsKey(0)).isFalse();
+        assertThat(underTest.get(0, MISSING)).isEqualTo(MISSING);
+        assertThat(underTest.remove(0, MISSING)).isEqualTo(MISSING);
+        assertThat(underTest.size()).isEqualTo(1);
+        assertThat(underTest.get(1, MISSING)).isEqualTo(10);
+    }
+}
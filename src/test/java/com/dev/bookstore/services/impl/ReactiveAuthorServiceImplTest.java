@@ -0,0 +1,52 @@
+package com.dev.bookstore.services.impl;
+
+import com.dev.bookstore.TestDataUtil;
+import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.repositories.AuthorRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class ReactiveAuthorServiceImplTest {
+
+    private final ReactiveAuthorServiceImpl underTest;
+
+    private final AuthorRepository authorRepository;
+
+    @Autowired
+    public ReactiveAuthorServiceImplTest(ReactiveAuthorServiceImpl underTest, AuthorRepository authorRepository) {
+        this.underTest = underTest;
+        this.authorRepository = authorRepository;
+    }
+
+    @Test
+    public void testThatListAndGetReadAuthorsCommittedThroughJpa() {
+        AuthorEntity first = authorRepository.save(TestDataUtil.createTestAuthorEntity());
+        AuthorEntity second = authorRepository.save(TestDataUtil.createTestAuthorEntity());
+
+        try {
+            StepVerifier.create(underTest.list(first.getId() - 1, 2).map(AuthorEntity::getId))
+                    .expectNext(first.getId(), second.getId())
+                    .verifyComplete();
+
+            StepVerifier.create(underTest.get(first.getId()))
+                    .assertNext(author -> {
+                        assertThat(author.getName()).isEqualTo(first.getName());
+                        assertThat(author.getAge()).isEqualTo(first.getAge());
+                        assertThat(author.getVersion()).isZero();
+                    })
+                    .verifyComplete();
+        } finally {
+            authorRepository.deleteAllById(List.of(first.getId(), second.getId()));
+        }
+
+        StepVerifier.create(underTest.get(first.getId()))
+                .verifyComplete();
+    }
+}
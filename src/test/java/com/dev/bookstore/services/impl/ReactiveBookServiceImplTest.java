@@ -0,0 +1,102 @@
+package com.dev.bookstore.services.impl;
+
+import com.dev.bookstore.TestDataUtil;
+import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.domain.projections.BookSummaryProjection;
+import com.dev.bookstore.repositories.AuthorRepository;
+import com.dev.bookstore.repositories.BookRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class ReactiveBookServiceImplTest {
+
+    private static final List<String> ISBNS = List.of("978-8000000001", "978-8000000002", "978-8000000003");
+
+    private final ReactiveBookServiceImpl underTest;
+
+    private final BookRepository bookRepository;
+
+    private final AuthorRepository authorRepository;
+
+    private AuthorEntity firstAuthor;
+
+    private AuthorEntity secondAuthor;
+
+    @Autowired
+    public ReactiveBookServiceImplTest(
+            ReactiveBookServiceImpl underTest,
+            BookRepository bookRepository,
+            AuthorRepository authorRepository
+    ) {
+        this.underTest = underTest;
+        this.bookRepository = bookRepository;
+        this.authorRepository = authorRepository;
+    }
+
+    @BeforeEach
+    public void beforeEach() {
+        firstAuthor = authorRepository.save(TestDataUtil.createTestAuthorEntity());
+        secondAuthor = authorRepository.save(TestDataUtil.createTestAuthorEntity());
+
+        bookRepository.save(TestDataUtil.testBookEntity(ISBNS.get(0), firstAuthor));
+        bookRepository.save(TestDataUtil.testBookEntity(ISBNS.get(1), secondAuthor));
+        bookRepository.save(TestDataUtil.testBookEntity(ISBNS.get(2), firstAuthor));
+    }
+
+    @AfterEach
+    public void afterEach() {
+        bookRepository.deleteAllById(ISBNS);
+        authorRepository.deleteAllById(List.of(firstAuthor.getId(), secondAuthor.getId()));
+    }
+
+    @Test
+    public void testThatListStreamsBooksInIsbnOrderAfterTheCursor() {
+        StepVerifier.create(underTest.list(null, ISBNS.get(0), 2).map(BookSummaryProjection::getIsbn))
+                .expectNext(ISBNS.get(1), ISBNS.get(2))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testThatListFiltersBooksByAuthor() {
+        StepVerifier.create(underTest.list(firstAuthor.getId(), null, null).map(BookSummaryProjection::getIsbn))
+                .expectNext(ISBNS.get(0), ISBNS.get(2))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testThatListHonoursDownstreamDemand() {
+        StepVerifier.create(underTest.list(null, "978-8", null), 1)
+                .assertNext(book -> assertThat(book.getIsbn()).isEqualTo(ISBNS.get(0)))
+                .thenRequest(1)
+                .assertNext(book -> assertThat(book.getIsbn()).isEqualTo(ISBNS.get(1)))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    public void testThatGetReturnsTheBookSummaryWithItsAuthor() {
+        StepVerifier.create(underTest.get(ISBNS.get(1)))
+                .assertNext(book -> {
+                    assertThat(book.getTitle()).isEqualTo("Test Book Title");
+                    assertThat(book.getVersion()).isZero();
+                    assertThat(book.getAuthorId()).isEqualTo(secondAuthor.getId());
+                    assertThat(book.getAuthorName()).isEqualTo(secondAuthor.getName());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testThatGetCompletesEmptyWhenBookNotFound() {
+        StepVerifier.create(underTest.get("missing-isbn"))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,133 @@
+package com.dev.bookstore.services.impl;
+
+import com.dev.bookstore.TestDataUtil;
+import com.dev.bookstore.config.ResponseCacheProperties;
+import com.dev.bookstore.domain.entities.AuthorEntity;
+import com.dev.bookstore.domain.entities.BookEntity;
+import com.dev.bookstore.domain.events.AuthorChangedEvent;
+import com.dev.bookstore.domain.events.BookChangedEvent;
+import com.dev.bookstore.mappers.impl.AuthorMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.stream.StreamSupport;
+
+import static com.dev.bookstore.TestDataUtil.BOOK_ISBN;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class ResponseBodyCacheImplTest {
+
+    private final ObjectMapper objectMapper;
+
+    private final AuthorMapper authorMapper;
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private ResponseBodyCacheImpl underTest;
+
+    @Autowired
+    public ResponseBodyCacheImplTest(ObjectMapper objectMapper, AuthorMapper authorMapper) {
+        this.objectMapper = objectMapper;
+        this.authorMapper = authorMapper;
+    }
+
+    @AfterEach
+    public void afterEach() {
+        underTest.close();
+    }
+
+    @Test
+    public void testThatBookBodiesAreSerializedOnceAndServedFromTheCache() throws Exception {
+        underTest = cache(true);
+        BookEntity book = TestDataUtil.testBookEntity(BOOK_ISBN, TestDataUtil.testAuthorEntity(1L));
+
+        byte[] first = underTest.getBook(TestDataUtil.testBookSummaryEntry(book));
+        byte[] second = underTest.getBook(TestDataUtil.testBookSummaryEntry(book));
+
+        assertThat(first).isEqualTo(objectMapper.writeValueAsBytes(TestDataUtil.testBookSummaryEntry(book).getSummary()));
+        assertThat(second).isSameAs(first);
+        assertThat(metric("bookstore.response.cache.gets", "result", "hit")).isEqualTo(1.0);
+        assertThat(metric("bookstore.response.cache.gets", "result", "miss")).isEqualTo(1.0);
+        assertThat(metric("bookstore.response.cache.hit.ratio", "cache", ResponseBodyCacheImpl.BOOKS_CACHE)).isEqualTo(0.5);
+        assertThat(metric("bookstore.response.cache.bytes")).isEqualTo(first.length);
+    }
+
+    @Test
+    public void testThatANewerBookVersionIsSerializedAgain() {
+        underTest = cache(true);
+        BookEntity book = TestDataUtil.testBookEntity(BOOK_ISBN, TestDataUtil.testAuthorEntity(1L));
+
+        byte[] first = underTest.getBook(TestDataUtil.testBookSummaryEntry(book));
+
+        book.setVersion(1L);
+        book.setTitle("A much longer title than the one before");
+        byte[] second = underTest.getBook(TestDataUtil.testBookSummaryEntry(book));
+
+        assertThat(second).isNotEqualTo(first);
+        assertThat(metric("bookstore.response.cache.entries")).isEqualTo(1.0);
+        assertThat(metric("bookstore.response.cache.bytes")).isEqualTo(second.length);
+    }
+
+    @Test
+    public void testThatChangeEventsEvictTheCachedBodies() {
+        underTest = cache(true);
+        AuthorEntity author = TestDataUtil.testAuthorEntity(1L);
+        BookEntity book = TestDataUtil.testBookEntity(BOOK_ISBN, author);
+
+        underTest.getBook(TestDataUtil.testBookSummaryEntry(book));
+        underTest.getAuthor(author);
+
+        underTest.onBookChanged(BookChangedEvent.deleted(BOOK_ISBN));
+        underTest.onAuthorChanged(AuthorChangedEvent.saved(author));
+
+        assertThat(metric("bookstore.response.cache.entries")).isZero();
+        assertThat(metric("bookstore.response.cache.bytes")).isZero();
+    }
+
+    @Test
+    public void testThatAuthorBodiesMatchTheMappedDto() throws Exception {
+        underTest = cache(true);
+        AuthorEntity author = TestDataUtil.testAuthorEntity(1L);
+
+        byte[] body = underTest.getAuthor(author);
+
+        assertThat(body).isEqualTo(objectMapper.writeValueAsBytes(authorMapper.toDto(author)));
+        assertThat(underTest.getAuthor(author)).isSameAs(body);
+    }
+
+    @Test
+    public void testThatNothingIsCachedWhenDisabled() {
+        underTest = cache(false);
+        AuthorEntity author = TestDataUtil.testAuthorEntity(1L);
+
+        assertThat(underTest.getAuthor(author)).isNotSameAs(underTest.getAuthor(author));
+        assertThat(metric("bookstore.response.cache.entries")).isZero();
+    }
+
+    private ResponseBodyCacheImpl cache(boolean enabled) {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setEnabled(enabled);
+
+        ResponseBodyCacheImpl cache = new ResponseBodyCacheImpl(objectMapper, authorMapper, properties);
+        cache.bindTo(registry);
+
+        return cache;
+    }
+
+    private double metric(String name, String... tags) {
+        return registry.find(name)
+                .tags(tags)
+                .meters()
+                .stream()
+                .flatMap(meter -> StreamSupport.stream(meter.measure().spliterator(), false))
+                .mapToDouble(Measurement::getValue)
+                .sum();
+    }
+}